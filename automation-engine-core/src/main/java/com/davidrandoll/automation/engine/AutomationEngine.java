@@ -48,12 +48,21 @@ public class AutomationEngine {
         orchestrator.handleEvent(event);
     }
 
+    /**
+     * Publish an event with an explicit source, which avoids determining it from the call stack
+     *
+     * @param source the class name of the event's publisher
+     */
+    public void publishEvent(IEvent event, String source) {
+        orchestrator.handleEventContext(EventContext.of(event, source));
+    }
+
     public AutomationResult executeAutomation(Automation automation, EventContext eventContext) {
         return orchestrator.executeAutomation(automation, eventContext);
     }
 
     public AutomationResult executeAutomationWithYaml(String yaml, EventContext eventContext) {
-        var automation = factory.createAutomation("yaml", yaml);
+        var automation = factory.getOrCreateAutomation("yaml", yaml);
         return orchestrator.executeAutomation(automation, eventContext);
     }
 
@@ -62,7 +71,7 @@ public class AutomationEngine {
     }
 
     public AutomationResult executeAutomationWithJson(String json, EventContext eventContext) {
-        var automation = factory.createAutomation("json", json);
+        var automation = factory.getOrCreateAutomation("json", json);
         return orchestrator.executeAutomation(automation, eventContext);
     }
 
@@ -6,15 +6,26 @@ import com.davidrandoll.automation.engine.core.conditions.BaseConditionList;
 import com.davidrandoll.automation.engine.core.events.EventContext;
 import com.davidrandoll.automation.engine.core.result.IBaseResult;
 import com.davidrandoll.automation.engine.core.triggers.BaseTriggerList;
+import com.davidrandoll.automation.engine.core.triggers.IBaseTrigger;
 import com.davidrandoll.automation.engine.core.variables.BaseVariableList;
+import com.davidrandoll.automation.engine.core.utils.FreezableList;
 import lombok.Getter;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static java.util.Objects.isNull;
 
+/**
+ * An automation built from its blocks.
+ * <p>
+ * Automations are immutable: the block lists are copied when the automation is created and cannot be modified
+ * afterwards, so an automation can be shared, for example by the results of its executions, without copying it.
+ * </p>
+ */
 @Getter
 public final class Automation {
     private final String alias;
@@ -29,10 +40,10 @@ public final class Automation {
             BaseConditionList conditions, BaseActionList actions, IBaseResult result) {
         this.alias = alias;
         this.options = Collections.unmodifiableMap(Optional.ofNullable(options).orElse(Collections.emptyMap()));
-        this.variables = Optional.ofNullable(variables).orElse(BaseVariableList.of());
-        this.triggers = Optional.ofNullable(triggers).orElse(BaseTriggerList.of());
-        this.conditions = Optional.ofNullable(conditions).orElse(BaseConditionList.of());
-        this.actions = Optional.ofNullable(actions).orElse(BaseActionList.of());
+        this.variables = frozen(Optional.ofNullable(variables).orElse(BaseVariableList.of()), BaseVariableList::of);
+        this.triggers = frozen(Optional.ofNullable(triggers).orElse(BaseTriggerList.of()), BaseTriggerList::of);
+        this.conditions = frozen(Optional.ofNullable(conditions).orElse(BaseConditionList.of()), BaseConditionList::of);
+        this.actions = frozen(Optional.ofNullable(actions).orElse(BaseActionList.of()), BaseActionList::of);
         this.result = Optional.ofNullable(result).orElse(context -> null);
     }
 
@@ -61,6 +72,35 @@ public final class Automation {
         return triggers.anyTriggered(eventContext);
     }
 
+    /**
+     * Check the triggers before resolving the variables, so variables are only resolved for automations
+     * that are actually triggered.
+     * <p>
+     * Triggers that do not read variables are checked first. As soon as one of them is triggered the variables
+     * are resolved, since conditions and actions may read them. Otherwise, the variables are resolved only
+     * if some trigger reads them, and those triggers are then checked.
+     * </p>
+     *
+     * @return true if any of the triggers are triggered
+     */
+    public boolean anyTriggerActivatedBeforeVariables(EventContext eventContext) {
+        if (isNull(triggers))
+            return false;
+        var dependentTriggers = new BaseTriggerList();
+        for (IBaseTrigger trigger : triggers) {
+            if (trigger.readsVariables()) {
+                dependentTriggers.add(trigger);
+            } else if (trigger.isTriggered(eventContext)) {
+                resolveVariables(eventContext);
+                return true;
+            }
+        }
+        if (dependentTriggers.isEmpty())
+            return false;
+        resolveVariables(eventContext);
+        return dependentTriggers.anyTriggered(eventContext);
+    }
+
     /**
      * Check if all conditions are met
      *
@@ -73,13 +113,14 @@ public final class Automation {
     }
 
     /**
-     * Perform all actions
+     * Perform all actions. When an action suspends the sequence, the remaining actions are resumed later from the
+     * scheduler, after this method returned.
      */
     public void performActions(EventContext context) {
         if (isNull(actions))
             return;
         try {
-            actions.executeAll(context);
+            actions.executeAllSuspendable(context);
         } catch (StopAutomationException e) {
             // This exception is thrown when the automation should be stopped
         }
@@ -99,4 +140,15 @@ public final class Automation {
     public Object getExecutionSummary(EventContext context) {
         return result.getExecutionSummary(context);
     }
+
+    /**
+     * @return the list itself if it is already unmodifiable, otherwise an unmodifiable copy
+     */
+    private static <E, L extends FreezableList<E>> L frozen(L list, Function<List<E>, L> copy) {
+        if (list.isFrozen())
+            return list;
+        var result = copy.apply(list);
+        result.freeze();
+        return result;
+    }
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.davidrandoll.automation.engine.core.actions;
 
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
 import com.davidrandoll.automation.engine.creator.actions.ActionDefinition;
 import com.fasterxml.jackson.annotation.*;
 import jakarta.validation.constraints.NotEmpty;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +32,15 @@ public class ActionContext implements IActionContext {
     @JsonProperty("0829b1b94f764e47b871865ea6628f34")
     private Map<String, Object> data;
 
+    /**
+     * State derived from the definition this context was created from, shared with the copies made of it
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private BlockCache blockCache;
+
     public ActionContext(String alias, String description, String type, Map<String, Object> data) {
         this.alias = alias;
         this.description = description;
@@ -41,10 +55,12 @@ public class ActionContext implements IActionContext {
 
     public ActionContext(ActionDefinition definition) {
         this(definition.getAlias(), definition.getDescription(), definition.getAction(), definition.getParams(), definition.getOptions());
+        this.blockCache = definition.getBlockCache();
     }
 
     public ActionContext(ActionContext other, Map<String, Object> additionalData) {
         this(other.getAlias(), other.getDescription(), other.getAction(), additionalData, other.getOptions());
+        this.blockCache = other.getBlockCache();
     }
 
     public ActionContext(ActionContext other) {
@@ -0,0 +1,33 @@
+package com.davidrandoll.automation.engine.core.actions;
+
+import com.davidrandoll.automation.engine.core.actions.exceptions.StopAutomationException;
+import com.davidrandoll.automation.engine.core.events.EventContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The remaining actions of a suspended action sequence, run by the scheduler once the delay has passed.
+ * <p>
+ * Continuations only live in memory, so a sequence suspended when the application stops is not resumed.
+ * </p>
+ */
+@Slf4j
+final class ActionSequenceContinuation implements Runnable {
+    private final BaseActionList remaining;
+    private final EventContext eventContext;
+
+    ActionSequenceContinuation(BaseActionList remaining, EventContext eventContext) {
+        this.remaining = remaining;
+        this.eventContext = eventContext;
+    }
+
+    @Override
+    public void run() {
+        try {
+            remaining.executeAllSuspendable(eventContext);
+        } catch (StopAutomationException e) {
+            // This exception is thrown when the automation should be stopped
+        } catch (RuntimeException e) {
+            log.error("Error resuming the actions for event {}", eventContext.getEventName(), e);
+        }
+    }
+}
@@ -1,29 +1,83 @@
 package com.davidrandoll.automation.engine.core.actions;
 
 import com.davidrandoll.automation.engine.core.actions.exceptions.StopActionSequenceException;
+import com.davidrandoll.automation.engine.core.actions.exceptions.SuspendActionSequenceException;
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.utils.FreezableList;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
-public class BaseActionList extends ArrayList<IBaseAction> {
+public class BaseActionList extends FreezableList<IBaseAction> {
+    /**
+     * Execute the actions in order. An action that suspends the sequence makes this thread wait for the delay.
+     */
     public void executeAll(EventContext eventContext) {
+        execute(eventContext, false);
+    }
+
+    /**
+     * Execute the actions in order. When an action suspends the sequence, the remaining actions are scheduled to
+     * resume after the delay and this method returns without waiting for them.
+     */
+    public void executeAllSuspendable(EventContext eventContext) {
+        execute(eventContext, true);
+    }
+
+    private void execute(EventContext eventContext, boolean suspendable) {
         try {
-            for (IBaseAction action : this) {
-                action.execute(eventContext);
+            for (int i = 0; i < size(); i++) {
+                try {
+                    get(i).execute(eventContext);
+                } catch (SuspendActionSequenceException e) {
+                    if (suspendable && suspend(eventContext, e, i + 1)) return;
+                    sleep(e.getDelay());
+                }
             }
         } catch (StopActionSequenceException e) {
             // This exception is thrown when the action sequence should be stopped
         }
     }
 
+    /**
+     * @return whether the actions from the given index were scheduled, or false if they have to run on this thread
+     */
+    private boolean suspend(EventContext eventContext, SuspendActionSequenceException suspension, int from) {
+        if (suspension.getScheduler() == null) return false;
+        var continuation = new ActionSequenceContinuation(BaseActionList.of(subList(from, size())), eventContext);
+        try {
+            suspension.getScheduler().schedule(continuation, suspension.getDelay().toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static void executeWaiting(IBaseAction action, EventContext eventContext) {
+        try {
+            action.execute(eventContext);
+        } catch (SuspendActionSequenceException e) {
+            sleep(e.getDelay());
+        }
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public void executeAllAsync(EventContext eventContext) {
         try {
             List<CompletableFuture<Void>> futures = this.stream()
-                    .map(action -> CompletableFuture.runAsync(() -> action.execute(eventContext)))
+                    .map(action -> CompletableFuture.runAsync(() -> executeWaiting(action, eventContext)))
                     .toList();
 
             CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
@@ -38,7 +92,7 @@ public class BaseActionList extends ArrayList<IBaseAction> {
     public void executeAllAsync(EventContext eventContext, Executor executor) {
         try {
             List<CompletableFuture<Void>> futures = this.stream()
-                    .map(action -> CompletableFuture.runAsync(() -> action.execute(eventContext), executor))
+                    .map(action -> CompletableFuture.runAsync(() -> executeWaiting(action, eventContext), executor))
                     .toList();
 
             CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
@@ -0,0 +1,26 @@
+package com.davidrandoll.automation.engine.core.actions.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Thrown by an action to pause the rest of its action sequence for the given delay.
+ * <p>
+ * The top-level actions of an automation are resumed from the scheduler once the delay has passed, so no thread is
+ * held while they wait. Nested action sequences, and suspensions without a scheduler, wait for the delay on their
+ * thread.
+ * </p>
+ */
+@Getter
+public class SuspendActionSequenceException extends RuntimeException {
+    private final Duration delay;
+    private final ScheduledExecutorService scheduler;
+
+    public SuspendActionSequenceException(Duration delay, ScheduledExecutorService scheduler) {
+        super("Suspend action sequence");
+        this.delay = delay;
+        this.scheduler = scheduler;
+    }
+}
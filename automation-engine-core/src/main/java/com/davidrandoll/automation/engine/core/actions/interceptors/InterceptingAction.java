@@ -3,6 +3,7 @@ package com.davidrandoll.automation.engine.core.actions.interceptors;
 import com.davidrandoll.automation.engine.core.actions.ActionContext;
 import com.davidrandoll.automation.engine.core.actions.IAction;
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.utils.ReadOnlyMapView;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,16 +11,20 @@ import java.util.Optional;
 public class InterceptingAction implements IAction {
     private final IAction delegate;
     private final List<IActionInterceptor> interceptors;
+    private final IActionChain chain;
+    private final ReadOnlyMapView readOnlyData = new ReadOnlyMapView();
 
     public InterceptingAction(IAction delegate, List<IActionInterceptor> interceptors) {
         this.delegate = delegate;
         this.interceptors = Optional.ofNullable(interceptors).orElse(List.of());
+        this.chain = buildChain(0);
     }
 
     @Override
     public void execute(EventContext eventContext, ActionContext actionContext) {
-        IActionChain chain = buildChain(0);
-        chain.execute(eventContext, new ActionContext(actionContext));
+        // The context is copied per invocation so interceptors can change its data, but the data itself is shared
+        // read-only with the automation definition instead of being copied
+        chain.execute(eventContext, new ActionContext(actionContext, readOnlyData.of(actionContext.getData())));
     }
 
     private IActionChain buildChain(int index) {
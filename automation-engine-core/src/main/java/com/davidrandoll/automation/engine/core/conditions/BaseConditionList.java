@@ -1,12 +1,12 @@
 package com.davidrandoll.automation.engine.core.conditions;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.utils.FreezableList;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-public class BaseConditionList extends ArrayList<IBaseCondition> {
+public class BaseConditionList extends FreezableList<IBaseCondition> {
 
     public boolean allSatisfied(EventContext context) {
         return this.stream()
@@ -1,17 +1,20 @@
 package com.davidrandoll.automation.engine.core.conditions;
 
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
 import com.davidrandoll.automation.engine.creator.conditions.ConditionDefinition;
 import com.fasterxml.jackson.annotation.*;
 import jakarta.validation.constraints.NotEmpty;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class ConditionContext implements IConditionContext {
     private String alias;
@@ -29,6 +32,23 @@ public class ConditionContext implements IConditionContext {
     @JsonProperty("0829b1b94f764e47b871865ea6628f34")
     private Map<String, Object> data;
 
+    /**
+     * State derived from the definition this context was created from, shared with the copies made of it
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private BlockCache blockCache;
+
+    public ConditionContext(String alias, String description, Map<String, Object> options, String condition, Map<String, Object> data) {
+        this.alias = alias;
+        this.description = description;
+        this.options = options;
+        this.condition = condition;
+        this.data = data;
+    }
+
     public ConditionContext(String alias, String description, String type, Map<String, Object> data) {
         this.alias = alias;
         this.description = description;
@@ -43,10 +63,12 @@ public class ConditionContext implements IConditionContext {
 
     public ConditionContext(ConditionDefinition definition) {
         this(definition.getAlias(), definition.getDescription(), definition.getCondition(), definition.getParams(), definition.getOptions());
+        this.blockCache = definition.getBlockCache();
     }
 
     public ConditionContext(ConditionContext other, Map<String, Object> additionalData) {
         this(other.getAlias(), other.getDescription(), other.getCondition(), additionalData, other.getOptions());
+        this.blockCache = other.getBlockCache();
     }
 
     public ConditionContext(ConditionContext other) {
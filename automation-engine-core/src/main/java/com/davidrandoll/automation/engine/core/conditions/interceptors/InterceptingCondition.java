@@ -3,6 +3,7 @@ package com.davidrandoll.automation.engine.core.conditions.interceptors;
 import com.davidrandoll.automation.engine.core.conditions.ConditionContext;
 import com.davidrandoll.automation.engine.core.conditions.ICondition;
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.utils.ReadOnlyMapView;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,16 +11,18 @@ import java.util.Optional;
 public class InterceptingCondition implements ICondition {
     private final ICondition delegate;
     private final List<IConditionInterceptor> interceptors;
+    private final IConditionChain chain;
+    private final ReadOnlyMapView readOnlyData = new ReadOnlyMapView();
 
     public InterceptingCondition(ICondition delegate, List<IConditionInterceptor> interceptors) {
         this.delegate = delegate;
         this.interceptors = Optional.ofNullable(interceptors).orElse(List.of());
+        this.chain = buildChain(0);
     }
 
     @Override
     public boolean isSatisfied(EventContext eventContext, ConditionContext context) {
-        IConditionChain chain = buildChain(0);
-        return chain.isSatisfied(eventContext, new ConditionContext(context));
+        return chain.isSatisfied(eventContext, new ConditionContext(context, readOnlyData.of(context.getData())));
     }
 
     private IConditionChain buildChain(int index) {
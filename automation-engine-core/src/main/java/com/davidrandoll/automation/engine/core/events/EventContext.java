@@ -1,15 +1,19 @@
 package com.davidrandoll.automation.engine.core.events;
 
 import com.davidrandoll.automation.engine.AutomationEngine;
-import com.davidrandoll.automation.engine.core.utils.ReflectionUtils;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.davidrandoll.automation.engine.core.result.AutomationResult;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import static java.util.Objects.isNull;
 
@@ -20,6 +24,22 @@ import static java.util.Objects.isNull;
 @Slf4j
 @Getter
 public class EventContext {
+    private static final String EVENT_KEY = "event";
+    /**
+     * The event source is looked for in at most this many frames above the event context constructor
+     */
+    private static final int SOURCE_FRAME_LIMIT = 32;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    /**
+     * Whether {@link #EventContext(IEvent)} determines the source from the call stack.
+     * Defaults to the {@code automation-engine.event-source-detection} system property, which is true unless set.
+     */
+    @Getter
+    @Setter
+    private static volatile boolean sourceDetectionEnabled =
+            Boolean.parseBoolean(System.getProperty("automation-engine.event-source-detection", "true"));
+
     private final IEvent event;
     /**
      * Additional metadata associated with the event.
@@ -30,20 +50,82 @@ public class EventContext {
     private final Instant timestamp;
     private final String source;
 
+    @Getter(AccessLevel.NONE)
+    private final EventDataCache eventDataCache;
+    /**
+     * The last event data snapshots, reused until the metadata changes
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile Snapshot reflectedSnapshot;
+    @Getter(AccessLevel.NONE)
+    private volatile Snapshot convertedSnapshot;
+    /**
+     * Collects the results of the automation run with this fork, or null if they are published one by one
+     */
+    @JsonIgnore
+    private final Predicate<AutomationResult> resultCollector;
+
     public EventContext(IEvent event) {
+        this(event, sourceDetectionEnabled ? determineSourceFromStackTrace(EventContext.class) : "");
+    }
+
+    /**
+     * Create an event context with an explicit source, without inspecting the call stack.
+     *
+     * @param source the class name of the event's publisher
+     */
+    public EventContext(IEvent event, String source) {
         if (event == null) throw new IllegalArgumentException("Event cannot be null");
 
         this.event = event;
-        this.metadata = new NullableConcurrentHashMap<>(); // some actions may be executed in parallel
+        this.metadata = new MetadataMap(); // some actions may be executed in parallel
+        this.eventDataCache = new EventDataCache(event);
         this.type = event.getClass();
         this.timestamp = Instant.now();
-        this.source = determineSourceFromStackTrace(this.getClass());
+        this.source = isNull(source) ? "" : source;
+        this.resultCollector = null;
+    }
+
+    private EventContext(EventContext parent, Predicate<AutomationResult> resultCollector) {
+        this.event = parent.event;
+        this.metadata = new ForkedMetadataMap(parent.metadata);
+        this.eventDataCache = parent.eventDataCache;
+        this.type = parent.type;
+        this.timestamp = parent.timestamp;
+        this.source = parent.source;
+        this.resultCollector = resultCollector;
     }
 
     public static EventContext of(IEvent event) {
         return new EventContext(event);
     }
 
+    public static EventContext of(IEvent event, String source) {
+        return new EventContext(event, source);
+    }
+
+    /**
+     * Fork this context for the same event.
+     * The fork reads through to this context's metadata, while metadata added to or removed from the fork
+     * stays local to it. Forking does not copy the metadata, so it is cheap enough to do per automation.
+     *
+     * @return a new event context with the same event, timestamp and source
+     */
+    public EventContext fork() {
+        return new EventContext(this, null);
+    }
+
+    /**
+     * Fork this context for an automation whose result is collected rather than published on its own.
+     *
+     * @param resultCollector takes the result of the automation, and returns false if it no longer collects results
+     * @return a new event context with the same event, timestamp and source
+     * @see #fork()
+     */
+    public EventContext fork(Predicate<AutomationResult> resultCollector) {
+        return new EventContext(this, resultCollector);
+    }
+
     /**
      * This method retrieves the name of the event.
      * It uses the class name of the event as the event name.
@@ -60,27 +142,43 @@ public class EventContext {
      * The event data is obtained using reflection to get all fields of the event class and their values.
      * <p>
      * NOTE: the metadata overrides the event data if there are any conflicts.
+     * The returned map is read-only, and is reused by later calls until the metadata changes.
      * </p>
      *
      * @return a map containing the event data and metadata
      */
     public Map<String, Object> getEventData() {
-        var result = new HashMap<String, Object>();
-        var eventData = ReflectionUtils.buildMapFromObject(event);
-        result.putAll(eventData);
-        result.put("event", eventData);
-        result.putAll(metadata);
-        return result;
+        var version = metadataVersion();
+        var snapshot = reflectedSnapshot;
+        var eventData = eventDataCache.reflected();
+        if (snapshot == null || snapshot.version() != version || snapshot.eventData() != eventData) {
+            snapshot = new Snapshot(version, eventData, buildEventData(eventData));
+            reflectedSnapshot = snapshot;
+        }
+        return snapshot.data();
     }
 
     public Map<String, Object> getEventData(ObjectMapper mapper) {
-        var result = new HashMap<String, Object>();
-        Map<String, Object> eventData = mapper.convertValue(event, new TypeReference<>() {
-        });
+        var version = metadataVersion();
+        var snapshot = convertedSnapshot;
+        var eventData = eventDataCache.converted(mapper);
+        if (snapshot == null || snapshot.version() != version || snapshot.eventData() != eventData) {
+            snapshot = new Snapshot(version, eventData, buildEventData(eventData));
+            convertedSnapshot = snapshot;
+        }
+        return snapshot.data();
+    }
+
+    private Map<String, Object> buildEventData(Map<String, Object> eventData) {
+        var result = HashMap.<String, Object>newHashMap(eventData.size() + metadata.size() + 1);
         result.putAll(eventData);
-        result.put("event", eventData);
+        result.put(EVENT_KEY, eventData);
         result.putAll(metadata);
-        return result;
+        return Collections.unmodifiableMap(result);
+    }
+
+    private long metadataVersion() {
+        return ((VersionedMetadata) metadata).version();
     }
 
     /**
@@ -123,40 +221,46 @@ public class EventContext {
      * This method retrieves metadata from the event context.
      * It can be used to access any metadata that has been added to the event context.
      *
+     * <p>
+     * The lookup follows the same precedence as {@link #getEventData()}: metadata first, then the whole event
+     * for the {@code event} key, then the event's fields. It does not build the event data map.
+     * </p>
+     *
      * @param key the key for the metadata entry to be retrieved
      * @return the value associated with the specified key, or null if no such key exists
      */
     public Object getMetadata(String key) {
         if (isNull(key)) throw new IllegalArgumentException("Key cannot be null");
-        Map<String, Object> eventData = getEventData();
-        if (isNull(eventData)) return null;
+        if (metadata.containsKey(key)) return metadata.get(key);
+        var eventData = eventDataCache.reflected();
+        if (EVENT_KEY.equals(key)) return eventData;
         return eventData.get(key);
     }
 
     /**
      * Get the class name of the caller from the stack trace.
+     * Only the top frames of the stack are walked, so the source is empty when the engine is called deeper down.
      *
      * @return the class name of the caller
      */
     public static String determineSourceFromStackTrace(Class<?> clazz) {
-        StackTraceElement[] stackTraces = Thread.currentThread().getStackTrace();
-        for (var i = 0; i < stackTraces.length; i++) {
-            var foundAutomationEngine = AutomationEngine.class.getName().equals(stackTraces[i].getClassName());
-            if (foundAutomationEngine) {
-                // check the class before if it is the same as clazz
-                // if yes return the class at i+1
-                // return the class at i-1
-                if (i < 1 || i + 1 >= stackTraces.length)
-                    break;
-                var foundCallingClass = clazz.getName().equals(stackTraces[i - 1].getClassName());
-                if (foundCallingClass) {
-                    return stackTraces[i + 1].getClassName();
-                } else {
-                    return stackTraces[i].getClassName();
+        return STACK_WALKER.walk(frames -> {
+            var classNames = frames.limit(SOURCE_FRAME_LIMIT).map(StackWalker.StackFrame::getClassName).iterator();
+            String previous = null;
+            while (classNames.hasNext()) {
+                var current = classNames.next();
+                if (AutomationEngine.class.getName().equals(current)) {
+                    if (previous == null || !classNames.hasNext())
+                        return "";
+                    // if the engine created the event context directly, the source is the engine's caller
+                    return clazz.getName().equals(previous) ? classNames.next() : current;
                 }
+                previous = current;
             }
-        }
+            return "";
+        });
+    }
 
-        return "";
+    private record Snapshot(long version, Map<String, Object> eventData, Map<String, Object> data) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.davidrandoll.automation.engine.core.events;
+
+import com.davidrandoll.automation.engine.core.utils.ReflectionUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The fields of an event as a map, computed once per event and shared by an event context and its forks.
+ * The event is assumed not to change once it is published.
+ */
+final class EventDataCache {
+    private final IEvent event;
+    private volatile Map<String, Object> reflected;
+    private volatile Converted converted;
+
+    EventDataCache(IEvent event) {
+        this.event = event;
+    }
+
+    Map<String, Object> reflected() {
+        var result = reflected;
+        if (result == null) {
+            result = Collections.unmodifiableMap(ReflectionUtils.buildMapFromObject(event));
+            reflected = result;
+        }
+        return result;
+    }
+
+    Map<String, Object> converted(ObjectMapper mapper) {
+        var result = converted;
+        if (result == null || result.mapper() != mapper) {
+            Map<String, Object> data = mapper.convertValue(event, new TypeReference<>() {
+            });
+            result = new Converted(mapper, Collections.unmodifiableMap(data));
+            converted = result;
+        }
+        return result.data();
+    }
+
+    private record Converted(ObjectMapper mapper, Map<String, Object> data) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.davidrandoll.automation.engine.core.events;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A copy-on-write overlay over the metadata of a parent event context.
+ * <p>
+ * Reads fall through to the parent unless the key was written or removed locally.
+ * Writes and removals only affect the overlay, so the parent never sees them. A key is written or removed with a
+ * single update of the overlay, where a removal is kept as a tombstone, so concurrent writers of a fork (such as
+ * parallel actions) never leave a key half written. The views are live: writes through them, their iterators and
+ * their entries go to the overlay like any other write.
+ * </p>
+ */
+class ForkedMetadataMap extends AbstractMap<String, Object> implements VersionedMetadata {
+    private static final Object NULL = new Object();
+    private static final Object REMOVED = new Object();
+
+    private final Map<String, Object> parent;
+    private final Map<String, Object> overlay = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final Set<Entry<String, Object>> entrySet = new EntrySet();
+
+    ForkedMetadataMap(Map<String, Object> parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * @return the local modification count plus the parent's version, so it also changes with the parent
+     */
+    @Override
+    public long version() {
+        var parentVersion = parent instanceof VersionedMetadata versioned ? versioned.version() : 0;
+        return version.get() + parentVersion;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        var value = overlay.get(key);
+        if (value == null) return parent.containsKey(key);
+        return value != REMOVED;
+    }
+
+    @Override
+    public Object get(Object key) {
+        var value = overlay.get(key);
+        if (value == null) return parent.get(key);
+        return unwrap(value);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        var previous = overlay.put(key, value == null ? NULL : value);
+        version.incrementAndGet();
+        return previous == null ? parent.get(key) : unwrap(previous);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof String name)) return null;
+        var previous = overlay.put(name, REMOVED);
+        version.incrementAndGet();
+        return previous == null ? parent.get(key) : unwrap(previous);
+    }
+
+    @Override
+    public void clear() {
+        overlay.replaceAll((key, value) -> REMOVED);
+        parent.keySet().forEach(key -> overlay.put(key, REMOVED));
+        version.incrementAndGet();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return entrySet;
+    }
+
+    private static Object unwrap(Object value) {
+        return value == NULL || value == REMOVED ? null : value;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (var iterator = iterator(); iterator.hasNext(); iterator.next()) size++;
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Entry<?, ?> entry && containsKey(entry.getKey())
+                    && Objects.equals(get(entry.getKey()), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) return false;
+            ForkedMetadataMap.this.remove(((Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            ForkedMetadataMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterates the local entries, then the parent entries that are not overridden locally
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private final Iterator<Entry<String, Object>> overlayEntries = overlay.entrySet().iterator();
+        private final Iterator<Entry<String, Object>> parentEntries = parent.entrySet().iterator();
+        private Entry<String, Object> next;
+        private Entry<String, Object> last;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (overlayEntries.hasNext()) {
+                    var entry = overlayEntries.next();
+                    if (entry.getValue() != REMOVED) next = new ForkedEntry(entry.getKey(), unwrap(entry.getValue()));
+                } else if (parentEntries.hasNext()) {
+                    var entry = parentEntries.next();
+                    if (!overlay.containsKey(entry.getKey())) next = new ForkedEntry(entry.getKey(), entry.getValue());
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) throw new IllegalStateException();
+            ForkedMetadataMap.this.remove(last.getKey());
+            last = null;
+        }
+    }
+
+    private final class ForkedEntry extends SimpleEntry<String, Object> {
+        private ForkedEntry(String key, Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.davidrandoll.automation.engine.core.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The metadata of a root event context, counting its modifications.
+ * Writes through the key, value and entry views are counted too.
+ */
+class MetadataMap extends NullableConcurrentHashMap<String, Object> implements VersionedMetadata {
+    private final AtomicLong version = new AtomicLong();
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    protected void modified() {
+        version.incrementAndGet();
+    }
+}
@@ -3,10 +3,32 @@ package com.davidrandoll.automation.engine.core.events;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
-public class NullableConcurrentHashMap<K, V> implements Map<K, V> {
-    private final Map<K, Optional<V>> map = new ConcurrentHashMap<>();
+/**
+ * A {@link ConcurrentHashMap} that also accepts null values.
+ * <p>
+ * Null values are stored as a shared sentinel, so puts do not allocate a wrapper, and no operation takes a lock
+ * beyond the ones of the underlying map. The key, value and entry views are live, weakly consistent views,
+ * like those of {@link ConcurrentHashMap}, and writes through them are reported to {@link #modified()} like
+ * any other write. Null keys are not supported.
+ * </p>
+ */
+public class NullableConcurrentHashMap<K, V> extends AbstractMap<K, V> {
+    private static final Object NULL = new Object();
+
+    private final ConcurrentHashMap<K, Object> map = new ConcurrentHashMap<>();
+    private KeySet keySet;
+    private Values values;
+    private EntrySet entrySet;
+
+    private static Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V unmask(Object value) {
+        return value == NULL ? null : (V) value;
+    }
 
     @Override
     public int size() {
@@ -25,69 +47,251 @@ public class NullableConcurrentHashMap<K, V> implements Map<K, V> {
 
     @Override
     public boolean containsValue(Object value) {
-        // compound operation: synchronized for consistency
-        synchronized (map) {
-            for (Optional<V> optional : map.values()) {
-                if (Objects.equals(optional.orElse(null), value)) {
-                    return true;
-                }
-            }
-            return false;
-        }
+        return map.containsValue(mask(value));
     }
 
     @Override
     public V get(Object key) {
-        Optional<V> optional = map.get(key);
-        return optional == null ? null : optional.orElse(null);
+        return unmask(map.get(key));
     }
 
     @Override
     public V put(K key, V value) {
-        Optional<V> previous = map.put(key, Optional.ofNullable(value));
-        return previous == null ? null : previous.orElse(null);
+        try {
+            return unmask(map.put(key, mask(value)));
+        } finally {
+            modified();
+        }
     }
 
     @Override
     public V remove(Object key) {
-        Optional<V> removed = map.remove(key);
-        return removed == null ? null : removed.orElse(null);
+        try {
+            return unmask(map.remove(key));
+        } finally {
+            modified();
+        }
     }
 
     @Override
     public void putAll(Map<? extends K, ? extends V> m) {
-        synchronized (map) {
+        try {
             for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
-                map.put(entry.getKey(), Optional.ofNullable(entry.getValue()));
+                map.put(entry.getKey(), mask(entry.getValue()));
             }
+        } finally {
+            modified();
         }
     }
 
     @Override
     public void clear() {
         map.clear();
+        modified();
+    }
+
+    /**
+     * Called after every write to the map, including writes through its key, value and entry views.
+     */
+    protected void modified() {
     }
 
     @Override
     public Set<K> keySet() {
-        return map.keySet();
+        var result = keySet;
+        if (result == null) keySet = result = new KeySet();
+        return result;
     }
 
     @Override
     public Collection<V> values() {
-        synchronized (map) {
-            return map.values().stream()
-                    .map(opt -> opt.orElse(null))
-                    .toList();
-        }
+        var result = values;
+        if (result == null) values = result = new Values();
+        return result;
     }
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        synchronized (map) {
-            return map.entrySet().stream()
-                    .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().orElse(null)))
-                    .collect(Collectors.toSet());
+        var result = entrySet;
+        if (result == null) entrySet = result = new EntrySet();
+        return result;
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+        @Override
+        public Iterator<K> iterator() {
+            var iterator = map.keySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public K next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    modified();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key) {
+            var removed = map.remove(key) != null;
+            if (removed) modified();
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            NullableConcurrentHashMap.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<V> {
+        @Override
+        public Iterator<V> iterator() {
+            var iterator = map.values().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    return unmask(iterator.next());
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    modified();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(Object value) {
+            return containsValue(value);
+        }
+
+        @Override
+        public void clear() {
+            NullableConcurrentHashMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            var iterator = map.entrySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    return new NullableEntry(iterator.next());
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    modified();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry<?, ?> entry)) return false;
+            var value = map.get(entry.getKey());
+            return value != null && Objects.equals(unmask(value), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Entry<?, ?> entry)) return false;
+            var removed = map.remove(entry.getKey(), mask(entry.getValue()));
+            if (removed) modified();
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            NullableConcurrentHashMap.this.clear();
+        }
+    }
+
+    private final class NullableEntry implements Entry<K, V> {
+        private final Entry<K, Object> entry;
+
+        private NullableEntry(Entry<K, Object> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue() {
+            return unmask(entry.getValue());
+        }
+
+        @Override
+        public V setValue(V value) {
+            try {
+                return unmask(entry.setValue(mask(value)));
+            } finally {
+                modified();
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> other
+                    && Objects.equals(getKey(), other.getKey())
+                    && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.davidrandoll.automation.engine.core.events;
+
+/**
+ * Metadata that counts its modifications, so that values derived from it can be cached until it changes.
+ */
+interface VersionedMetadata {
+    /**
+     * @return a number that changes whenever the metadata is modified
+     */
+    long version();
+}
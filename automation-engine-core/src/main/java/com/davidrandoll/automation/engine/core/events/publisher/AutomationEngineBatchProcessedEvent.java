@@ -0,0 +1,27 @@
+package com.davidrandoll.automation.engine.core.events.publisher;
+
+import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.result.AutomationResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Published once an event has been handled by all of its automations
+ */
+@Data
+@AllArgsConstructor
+public class AutomationEngineBatchProcessedEvent {
+    private EventContext eventContext;
+
+    /**
+     * The number of automations the event was dispatched to
+     */
+    private int automationCount;
+
+    /**
+     * The results of the executed automations, and of the skipped ones that were sampled
+     */
+    private List<AutomationResult> results;
+}
@@ -12,7 +12,7 @@ public class AutomationEngineProcessedEvent {
     private AutomationResult result;
 
     public AutomationEngineProcessedEvent(Automation automation, EventContext eventContext, AutomationResult result) {
-        this.automation = new Automation(automation);
+        this.automation = automation;
         this.eventContext = eventContext;
         this.result = result;
     }
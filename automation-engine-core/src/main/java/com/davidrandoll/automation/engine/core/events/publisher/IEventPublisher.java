@@ -3,4 +3,12 @@ package com.davidrandoll.automation.engine.core.events.publisher;
 @FunctionalInterface
 public interface IEventPublisher {
     void publishEvent(Object event);
+
+    /**
+     * Check whether anything listens to events of the given type, so that events nobody listens to
+     * do not have to be created and published. Publishers that cannot tell return true.
+     */
+    default boolean hasListeners(Class<?> eventType) {
+        return true;
+    }
 }
@@ -22,7 +22,7 @@ public class AutomationResult {
 
     private AutomationResult(boolean executed, Automation automation, EventContext context, Object result, Map<String, Object> additionalFields) {
         this.executed = executed;
-        this.automation = new Automation(automation);
+        this.automation = automation;
         this.context = context;
         this.result = Optional.ofNullable(result);
         this.additionalFields = additionalFields != null ? Map.copyOf(additionalFields) : Collections.emptyMap();
@@ -10,16 +10,17 @@ import java.util.Optional;
 public class InterceptingResult implements IResult {
     private final IResult delegate;
     private final List<IResultInterceptor> interceptors;
+    private final IResultChain chain;
 
     public InterceptingResult(IResult delegate, List<IResultInterceptor> interceptors) {
         this.delegate = delegate;
         this.interceptors = Optional.ofNullable(interceptors).orElse(List.of());
+        this.chain = buildChain(0);
     }
 
 
     @Override
     public Object getExecutionSummary(EventContext eventContext, ResultContext resultContext) {
-        IResultChain chain = buildChain(0);
         return chain.getExecutionSummary(eventContext, new ResultContext(resultContext));
     }
 
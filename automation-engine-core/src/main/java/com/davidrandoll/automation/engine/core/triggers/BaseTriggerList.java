@@ -1,12 +1,12 @@
 package com.davidrandoll.automation.engine.core.triggers;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.utils.FreezableList;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-public class BaseTriggerList extends ArrayList<IBaseTrigger> {
+public class BaseTriggerList extends FreezableList<IBaseTrigger> {
     public boolean allTriggered(EventContext eventContext) {
         return this.stream()
                 .allMatch(trigger -> trigger.isTriggered(eventContext));
@@ -0,0 +1,65 @@
+package com.davidrandoll.automation.engine.core.triggers;
+
+import com.davidrandoll.automation.engine.core.events.IEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The set of events a trigger can possibly fire for.
+ * <p>
+ * An event matches when it is an instance of one of the declared event classes, or when its
+ * {@link IEvent#getEventType()} equals (ignoring case) one of the declared event type names.
+ * A trigger that cannot narrow down its events declares {@link #any()}.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeclaredEventTypes {
+    private static final DeclaredEventTypes ANY = new DeclaredEventTypes(Set.of(), Set.of());
+
+    private final Set<Class<?>> eventClasses;
+    private final Set<String> eventTypeNames;
+
+    public static DeclaredEventTypes any() {
+        return ANY;
+    }
+
+    public static DeclaredEventTypes of(Class<?>... eventClasses) {
+        return new DeclaredEventTypes(Set.of(eventClasses), Set.of());
+    }
+
+    public static DeclaredEventTypes ofNames(String... eventTypeNames) {
+        var names = Arrays.stream(eventTypeNames)
+                .filter(Objects::nonNull)
+                .map(DeclaredEventTypes::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+        return new DeclaredEventTypes(Set.of(), names);
+    }
+
+    /**
+     * @return true if the trigger may fire for any event, so it cannot be routed by event type
+     */
+    public boolean isAny() {
+        return eventClasses.isEmpty() && eventTypeNames.isEmpty();
+    }
+
+    public boolean matches(IEvent event) {
+        if (isAny()) return true;
+        if (event == null) return false;
+        for (Class<?> eventClass : eventClasses) {
+            if (eventClass.isInstance(event)) return true;
+        }
+        return event.getEventType() != null && eventTypeNames.contains(normalize(event.getEventType()));
+    }
+
+    public static String normalize(String eventTypeName) {
+        return eventTypeName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,4 +5,20 @@ import com.davidrandoll.automation.engine.core.events.EventContext;
 @FunctionalInterface
 public interface IBaseTrigger {
     boolean isTriggered(EventContext eventContext);
-}
\ No newline at end of file
+
+    /**
+     * @return the events this trigger can possibly fire for
+     * @see ITrigger#getDeclaredEventTypes(TriggerContext)
+     */
+    default DeclaredEventTypes getDeclaredEventTypes() {
+        return DeclaredEventTypes.any();
+    }
+
+    /**
+     * @return true if the trigger may read the automation's variables, so they must be resolved before checking it
+     * @see ITrigger#readsVariables(TriggerContext)
+     */
+    default boolean readsVariables() {
+        return true;
+    }
+}
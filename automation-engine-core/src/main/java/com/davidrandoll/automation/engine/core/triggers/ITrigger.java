@@ -6,4 +6,31 @@ import com.davidrandoll.automation.engine.core.events.EventContext;
 @FunctionalInterface
 public interface ITrigger extends IBlock {
     boolean isTriggered(EventContext eventContext, TriggerContext triggerContext);
-}
\ No newline at end of file
+
+    /**
+     * Declare the events this trigger can possibly fire for, given its trigger context.
+     * The orchestrator uses this to route events only to the automations that can match them.
+     * <p>
+     * Only narrow this down when the trigger can never fire for any other event.
+     * </p>
+     *
+     * @return the declared event types, or {@link DeclaredEventTypes#any()} if the trigger may fire for any event
+     */
+    default DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return DeclaredEventTypes.any();
+    }
+
+    /**
+     * Indicates whether the trigger may read the automation's variables on its own,
+     * rather than only through its (templated) trigger context.
+     * <p>
+     * Triggers that evaluate expressions themselves, such as scripts, can read any variable.
+     * Triggers that do not read variables can be checked before the variables are resolved.
+     * </p>
+     *
+     * @return true if the trigger may read variables regardless of its trigger context
+     */
+    default boolean readsVariables(TriggerContext triggerContext) {
+        return !autoEvaluateExpression();
+    }
+}
@@ -1,17 +1,20 @@
 package com.davidrandoll.automation.engine.core.triggers;
 
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
 import com.davidrandoll.automation.engine.creator.triggers.TriggerDefinition;
 import com.fasterxml.jackson.annotation.*;
 import jakarta.validation.constraints.NotEmpty;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class TriggerContext implements ITriggerContext {
     private String alias;
@@ -29,6 +32,23 @@ public class TriggerContext implements ITriggerContext {
     @JsonProperty("0829b1b94f764e47b871865ea6628f34")
     private Map<String, Object> data;
 
+    /**
+     * State derived from the definition this context was created from, shared with the copies made of it
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private BlockCache blockCache;
+
+    public TriggerContext(String alias, String description, Map<String, Object> options, String trigger, Map<String, Object> data) {
+        this.alias = alias;
+        this.description = description;
+        this.options = options;
+        this.trigger = trigger;
+        this.data = data;
+    }
+
     public TriggerContext(String alias, String description, String type, Map<String, Object> data) {
         this.alias = alias;
         this.description = description;
@@ -43,10 +63,12 @@ public class TriggerContext implements ITriggerContext {
 
     public TriggerContext(TriggerDefinition definition) {
         this(definition.getAlias(), definition.getDescription(), definition.getTrigger(), definition.getParams(), definition.getOptions());
+        this.blockCache = definition.getBlockCache();
     }
 
     public TriggerContext(TriggerContext other, Map<String, Object> additionalData) {
         this(other.getAlias(), other.getDescription(), other.getTrigger(), additionalData, other.getOptions());
+        this.blockCache = other.getBlockCache();
     }
 
     public TriggerContext(TriggerContext other) {
@@ -1,8 +1,10 @@
 package com.davidrandoll.automation.engine.core.triggers.interceptors;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
 import com.davidrandoll.automation.engine.core.triggers.ITrigger;
 import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
+import com.davidrandoll.automation.engine.core.utils.ReadOnlyMapView;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,16 +12,28 @@ import java.util.Optional;
 public class InterceptingTrigger implements ITrigger {
     private final ITrigger delegate;
     private final List<ITriggerInterceptor> interceptors;
+    private final ITriggerChain chain;
+    private final ReadOnlyMapView readOnlyData = new ReadOnlyMapView();
 
     public InterceptingTrigger(ITrigger delegate, List<ITriggerInterceptor> interceptors) {
         this.delegate = delegate;
         this.interceptors = Optional.ofNullable(interceptors).orElse(List.of());
+        this.chain = buildChain(0);
     }
 
     @Override
     public boolean isTriggered(EventContext eventContext, TriggerContext triggerContext) {
-        ITriggerChain chain = buildChain(0);
-        return chain.isTriggered(eventContext, new TriggerContext(triggerContext));
+        return chain.isTriggered(eventContext, new TriggerContext(triggerContext, readOnlyData.of(triggerContext.getData())));
+    }
+
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return delegate.getDeclaredEventTypes(triggerContext);
+    }
+
+    @Override
+    public boolean readsVariables(TriggerContext triggerContext) {
+        return delegate.readsVariables(triggerContext);
     }
 
     private ITriggerChain buildChain(int index) {
@@ -1,6 +1,7 @@
 package com.davidrandoll.automation.engine.core.triggers.interceptors;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
 import com.davidrandoll.automation.engine.core.triggers.ITrigger;
 import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import lombok.RequiredArgsConstructor;
@@ -24,4 +25,14 @@ class TriggerChain implements ITriggerChain {
     public boolean autoEvaluateExpression() {
         return trigger.autoEvaluateExpression();
     }
+
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return trigger.getDeclaredEventTypes(triggerContext);
+    }
+
+    @Override
+    public boolean readsVariables(TriggerContext triggerContext) {
+        return trigger.readsVariables(triggerContext);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.davidrandoll.automation.engine.core.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * State derived from a block definition, owned by the definition so it is derived once for as long as the
+ * definition lives.
+ * <p>
+ * Entries are keyed by whoever derives them, such as the builder that builds the block or an interceptor that
+ * compiles its data, and are dropped together with the definition. Each entry also records what it was derived from,
+ * so a definition that is modified after it was built is built again instead of running the stale block.
+ * </p>
+ */
+public final class BlockCache {
+    private final Map<Object, Object> entries = new ConcurrentHashMap<>(4);
+
+    /**
+     * Get the value stored under the key, loading it if there is none or if it was loaded for another version of the
+     * definition. The version is a fingerprint of the definition's content, such as its hash code, so changing the
+     * definition after it was built loads the value again.
+     * The loader runs without holding a lock, so the value may occasionally be loaded twice. A null value is returned
+     * as is, without being stored.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(Object key, int version, Supplier<V> loader) {
+        if (entries.get(key) instanceof Loaded<?> loaded && loaded.version() == version)
+            return (V) loaded.value();
+
+        var value = loader.get();
+        if (value != null) entries.put(key, new Loaded<>(version, value));
+        return value;
+    }
+
+    /**
+     * Get the value derived from the source under the key, deriving it again whenever a different source is
+     * passed. Sources are compared by identity, so the derived value is reused for as long as the block is handed
+     * the same source, and a block whose source changes on every execution only keeps the latest one.
+     */
+    @SuppressWarnings("unchecked")
+    public <S, V> V derive(Object key, S source, Function<S, V> deriver) {
+        if (entries.get(key) instanceof Derived<?, ?> derived && derived.source() == source)
+            return (V) derived.value();
+
+        var value = deriver.apply(source);
+        if (value != null) entries.put(key, new Derived<>(source, value));
+        return value;
+    }
+
+    private record Loaded<V>(int version, V value) {
+    }
+
+    private record Derived<S, V>(S source, V value) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.davidrandoll.automation.engine.core.utils;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * An {@link ArrayList} that can be made unmodifiable once it is built.
+ * <p>
+ * After {@link #freeze()}, every operation that would modify the list, including through its iterators and
+ * sub lists, throws {@link UnsupportedOperationException}. Reads are as fast as those of a plain
+ * {@link ArrayList}, so a frozen list can be shared without defensive copies. Sub lists taken before the list
+ * was frozen can still set and sort its elements, so a list should be frozen before it is handed out.
+ * </p>
+ */
+public class FreezableList<E> extends ArrayList<E> {
+    private boolean frozen;
+
+    /**
+     * Make this list unmodifiable. A frozen list cannot be unfrozen.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) throw new UnsupportedOperationException("The list is unmodifiable");
+    }
+
+    @Override
+    public boolean add(E e) {
+        checkNotFrozen();
+        return super.add(e);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkNotFrozen();
+        super.add(index, element);
+    }
+
+    @Override
+    public void addFirst(E element) {
+        checkNotFrozen();
+        super.addFirst(element);
+    }
+
+    @Override
+    public void addLast(E element) {
+        checkNotFrozen();
+        super.addLast(element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        checkNotFrozen();
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkNotFrozen();
+        return super.addAll(index, c);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkNotFrozen();
+        return super.set(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkNotFrozen();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        checkNotFrozen();
+        return super.remove(o);
+    }
+
+    @Override
+    public E removeFirst() {
+        checkNotFrozen();
+        return super.removeFirst();
+    }
+
+    @Override
+    public E removeLast() {
+        checkNotFrozen();
+        return super.removeLast();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        checkNotFrozen();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        checkNotFrozen();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        checkNotFrozen();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        checkNotFrozen();
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        checkNotFrozen();
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        checkNotFrozen();
+        super.sort(c);
+    }
+
+    @Override
+    public void clear() {
+        checkNotFrozen();
+        super.clear();
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        var subList = super.subList(fromIndex, toIndex);
+        return frozen ? Collections.unmodifiableList(subList) : subList;
+    }
+}
@@ -7,10 +7,24 @@ import java.lang.reflect.Type;
 
 @UtilityClass
 public class GenericTypeResolver {
+    /**
+     * Generic parameter classes per class, resolved once per class
+     */
+    private static final ClassValue<Class<?>> GENERIC_PARAMETER_CLASSES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            return resolveGenericParameterClass(type);
+        }
+    };
+
     public static Class<?> getGenericParameterClass(Class<?> clazz) {
         if (clazz == null)
             throw new IllegalArgumentException("Class cannot be null");
 
+        return GENERIC_PARAMETER_CLASSES.get(clazz);
+    }
+
+    private static Class<?> resolveGenericParameterClass(Class<?> clazz) {
         try {
             Type superClass = clazz.getGenericSuperclass();
             if (superClass instanceof ParameterizedType parameterizedType) {
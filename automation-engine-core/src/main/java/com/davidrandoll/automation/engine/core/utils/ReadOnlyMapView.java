@@ -0,0 +1,28 @@
+package com.davidrandoll.automation.engine.core.utils;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Hands out a read-only view of a block's data, reusing the same view for as long as the data doesn't change.
+ * <p>
+ * A stable view lets interceptors recognise the data of a block they have seen before by identity, for example to
+ * reuse what they derived from it, without hashing its content on every execution.
+ * </p>
+ */
+public final class ReadOnlyMapView {
+    private volatile View view;
+
+    public Map<String, Object> of(Map<String, Object> data) {
+        if (data == null) return null;
+        var current = view;
+        if (current == null || current.source() != data) {
+            current = new View(data, Collections.unmodifiableMap(data));
+            view = current;
+        }
+        return current.readOnly();
+    }
+
+    private record View(Map<String, Object> source, Map<String, Object> readOnly) {
+    }
+}
@@ -4,29 +4,77 @@ import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @UtilityClass
 public class ReflectionUtils {
+    /**
+     * Field getters per class, looked up once per class
+     */
+    private static final ClassValue<List<FieldAccessor>> FIELD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected List<FieldAccessor> computeValue(Class<?> type) {
+            return createFieldAccessors(type);
+        }
+    };
+
     /**
      * This method builds a map from an object's fields.
      * It uses reflection to get all fields of the class and their values.
      * The field names are used as keys in the map.
+     * <p>
+     * The field getters are resolved once per class and cached, so repeated calls do not reflect over the class.
+     * </p>
      *
      * @return a map containing the event data
      */
     public Map<String, Object> buildMapFromObject(Object obj) {
-        var result = new HashMap<String, Object>();
-        var fields = FieldUtils.getAllFields(obj.getClass());
-        for (var field : fields) {
+        var accessors = FIELD_ACCESSORS.get(obj.getClass());
+        var result = HashMap.<String, Object>newHashMap(accessors.size());
+        for (var accessor : accessors) {
             try {
-                result.put(field.getName(), FieldUtils.readField(field, obj, true));
-            } catch (IllegalAccessException e) {
-                log.error("Error reading field {} from object {}", field.getName(), obj.getClass().getSimpleName(), e);
+                result.put(accessor.name(), (Object) accessor.getter().invokeExact(obj));
+            } catch (Throwable e) {
+                log.error("Error reading field {} from object {}", accessor.name(), obj.getClass().getSimpleName(), e);
             }
         }
         return result;
     }
+
+    private static List<FieldAccessor> createFieldAccessors(Class<?> type) {
+        var fields = FieldUtils.getAllFields(type);
+        var accessors = new ArrayList<FieldAccessor>(fields.length);
+        for (Field field : fields) {
+            try {
+                accessors.add(new FieldAccessor(field.getName(), createGetter(field)));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.error("Error reading field {} from object {}", field.getName(), type.getSimpleName(), e);
+            }
+        }
+        return List.copyOf(accessors);
+    }
+
+    /**
+     * @return a getter of type (Object)Object, which ignores its argument for static fields
+     */
+    private static MethodHandle createGetter(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        var getter = MethodHandles.lookup().unreflectGetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            getter = MethodHandles.dropArguments(getter, 0, Object.class);
+        }
+        return getter.asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    private record FieldAccessor(String name, MethodHandle getter) {
+    }
 }
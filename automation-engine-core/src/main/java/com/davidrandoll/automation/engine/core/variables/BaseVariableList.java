@@ -1,14 +1,14 @@
 package com.davidrandoll.automation.engine.core.variables;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.utils.FreezableList;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
-public class BaseVariableList extends ArrayList<IBaseVariable> {
+public class BaseVariableList extends FreezableList<IBaseVariable> {
     public void resolveAll(EventContext eventContext) {
         for (IBaseVariable variable : this) {
             variable.resolve(eventContext);
@@ -1,9 +1,14 @@
 package com.davidrandoll.automation.engine.core.variables;
 
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
 import com.davidrandoll.automation.engine.creator.variables.VariableDefinition;
 import com.fasterxml.jackson.annotation.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +30,15 @@ public class VariableContext implements IVariableContext {
     @JsonProperty("0829b1b94f764e47b871865ea6628f34")
     private Map<String, Object> data;
 
+    /**
+     * State derived from the definition this context was created from, shared with the copies made of it
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private BlockCache blockCache;
+
     public VariableContext(String alias, String description, String type, Map<String, Object> data) {
         this.alias = alias;
         this.description = description;
@@ -39,10 +53,12 @@ public class VariableContext implements IVariableContext {
 
     public VariableContext(VariableDefinition definition) {
         this(definition.getAlias(), definition.getDescription(), definition.getVariable(), definition.getParams(), definition.getOptions());
+        this.blockCache = definition.getBlockCache();
     }
 
     public VariableContext(VariableContext other, Map<String, Object> additionalData) {
         this(other.getAlias(), other.getDescription(), other.getVariable(), additionalData, other.getOptions());
+        this.blockCache = other.getBlockCache();
     }
 
     public VariableContext(VariableContext other) {
@@ -3,6 +3,7 @@ package com.davidrandoll.automation.engine.core.variables.interceptors;
 import com.davidrandoll.automation.engine.core.events.EventContext;
 import com.davidrandoll.automation.engine.core.variables.IVariable;
 import com.davidrandoll.automation.engine.core.variables.VariableContext;
+import com.davidrandoll.automation.engine.core.utils.ReadOnlyMapView;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,16 +11,18 @@ import java.util.Optional;
 public class InterceptingVariable implements IVariable {
     private final IVariable delegate;
     private final List<IVariableInterceptor> interceptors;
+    private final IVariableChain chain;
+    private final ReadOnlyMapView readOnlyData = new ReadOnlyMapView();
 
     public InterceptingVariable(IVariable delegate, List<IVariableInterceptor> interceptors) {
         this.delegate = delegate;
         this.interceptors = Optional.ofNullable(interceptors).orElse(List.of());
+        this.chain = buildChain(0);
     }
 
     @Override
     public void resolve(EventContext eventContext, VariableContext variableContext) {
-        IVariableChain chain = buildChain(0);
-        chain.resolve(eventContext, new VariableContext(variableContext));
+        chain.resolve(eventContext, new VariableContext(variableContext, readOnlyData.of(variableContext.getData())));
     }
 
     private IVariableChain buildChain(int index) {
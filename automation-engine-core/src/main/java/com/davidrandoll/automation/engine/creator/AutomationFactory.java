@@ -3,6 +3,7 @@ package com.davidrandoll.automation.engine.creator;
 import com.davidrandoll.automation.engine.core.Automation;
 import com.davidrandoll.automation.engine.creator.parsers.AutomationParserRouter;
 import com.davidrandoll.automation.engine.creator.parsers.ManualAutomationBuilder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -11,6 +12,12 @@ import lombok.extern.slf4j.Slf4j;
 public class AutomationFactory {
     private final ManualAutomationBuilder builder;
     private final AutomationParserRouter router;
+    @Getter
+    private final CompiledAutomationCache cache;
+
+    public AutomationFactory(ManualAutomationBuilder builder, AutomationParserRouter router) {
+        this(builder, router, CompiledAutomationCache.disabled());
+    }
 
     public Automation createAutomation(AutomationDefinition createRequest) {
         return builder.create(createRequest);
@@ -19,4 +26,12 @@ public class AutomationFactory {
     public Automation createAutomation(String format, Object input) {
         return router.create(format, input);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the automation for the document from the cache, or create and cache it.
+     * The returned automation may be shared with other callers of this method.
+     */
+    public Automation getOrCreateAutomation(String format, String input) {
+        return cache.get(format, input, () -> createAutomation(format, input));
+    }
+}
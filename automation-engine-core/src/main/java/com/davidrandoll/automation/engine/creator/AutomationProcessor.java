@@ -20,7 +20,15 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 import java.util.concurrent.Executor;
-
+import java.util.function.Predicate;
+
+/**
+ * Resolves and executes blocks of definitions.
+ * <p>
+ * The builders keep the block built from a definition with the definition itself, so composite blocks that
+ * execute their nested definitions repeatedly only look up and wrap them the first time.
+ * </p>
+ */
 @RequiredArgsConstructor
 public class AutomationProcessor {
     private final ActionBuilder actionBuilder;
@@ -74,6 +82,10 @@ public class AutomationProcessor {
         return triggerBuilder.resolve(triggers);
     }
 
+    public BaseTriggerList resolveTriggers(List<TriggerDefinition> triggers, Predicate<TriggerDefinition> referencesVariables) {
+        return triggerBuilder.resolve(triggers, referencesVariables);
+    }
+
     public boolean anyTriggersTriggered(EventContext eventContext, List<TriggerDefinition> triggers) {
         return triggerBuilder.anyTriggersTriggered(eventContext, triggers);
     }
@@ -0,0 +1,128 @@
+package com.davidrandoll.automation.engine.creator;
+
+import com.davidrandoll.automation.engine.core.Automation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of automations compiled from automation documents, keyed by the format and a hash of the
+ * document content.
+ * <p>
+ * The least recently used automation is evicted once the cache is full, and automations expire after the
+ * time to live since they were compiled. A maximum size of 0 disables the cache.
+ * </p>
+ */
+public class CompiledAutomationCache {
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CompiledAutomationCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, Clock.systemUTC());
+    }
+
+    CompiledAutomationCache(int maxSize, Duration timeToLive, Clock clock) {
+        if (maxSize < 0) throw new IllegalArgumentException("Max size cannot be negative");
+        if (timeToLive == null || timeToLive.isNegative()) throw new IllegalArgumentException("Time to live cannot be negative");
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public static CompiledAutomationCache disabled() {
+        return new CompiledAutomationCache(0, Duration.ZERO);
+    }
+
+    /**
+     * Get the automation compiled from the document, compiling it if it is not cached or has expired.
+     * The compiler runs outside the cache lock, so the same document may occasionally be compiled twice.
+     */
+    public Automation get(String format, String content, Supplier<Automation> compiler) {
+        if (maxSize == 0) return compiler.get();
+
+        var key = key(format, content);
+        var now = clock.millis();
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                hits.increment();
+                return entry.automation();
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        var automation = compiler.get();
+        synchronized (entries) {
+            entries.put(key, new Entry(automation, now + timeToLive.toMillis()));
+            evictExpiredOrOverflowing(now);
+        }
+        return automation;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public Stats getStats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+        }
+    }
+
+    private void evictExpiredOrOverflowing(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entries.size() > maxSize || entry.getValue().expiresAt() <= now) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static String key(String format, String content) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return format + ":" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(Automation automation, long expiresAt) {
+    }
+
+    /**
+     * @param hits      lookups served from the cache
+     * @param misses    lookups that compiled the automation
+     * @param evictions automations removed because they expired or the cache was full
+     * @param size      automations currently cached
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+        public double hitRate() {
+            var total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -35,7 +35,15 @@ public class ActionBuilder {
         return result;
     }
 
+    /**
+     * The block is built once per definition and kept with it, so definitions that are executed repeatedly, such
+     * as the nested actions of a repeat or sequence, only look up and wrap their action the first time.
+     */
     private IBaseAction buildAction(ActionDefinition action) {
+        return action.getBlockCache().get(this, action.hashCode(), () -> newAction(action));
+    }
+
+    private IBaseAction newAction(ActionDefinition action) {
         IAction actionInstance = Optional.ofNullable(supplier.getAction(action.getAction()))
                 .orElseThrow(() -> new ActionNotFoundException(action.getAction()));
 
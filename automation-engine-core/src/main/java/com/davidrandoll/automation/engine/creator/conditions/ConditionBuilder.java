@@ -34,7 +34,15 @@ public class ConditionBuilder {
         return result;
     }
 
+    /**
+     * The block is built once per definition and kept with it, so definitions that are checked repeatedly
+     * only look up and wrap their condition the first time.
+     */
     private IBaseCondition buildCondition(ConditionDefinition condition) {
+        return condition.getBlockCache().get(this, condition.hashCode(), () -> newCondition(condition));
+    }
+
+    private IBaseCondition newCondition(ConditionDefinition condition) {
         ICondition conditionInstance = Optional.ofNullable(supplier.getCondition(condition.getCondition()))
                 .orElseThrow(() -> new ConditionNotFoundException(condition.getCondition()));
 
@@ -3,6 +3,7 @@ package com.davidrandoll.automation.engine.creator.parsers;
 import com.davidrandoll.automation.engine.core.Automation;
 import com.davidrandoll.automation.engine.creator.AutomationDefinition;
 import com.davidrandoll.automation.engine.creator.AutomationProcessor;
+import com.davidrandoll.automation.engine.creator.variables.VariableReferences;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,11 +16,12 @@ public class ManualAutomationBuilder implements IAutomationFormatParser<Automati
     public Automation create(AutomationDefinition request) {
         log.info("Start creating automation: {}", request.getAlias());
 
+        var variableReferences = VariableReferences.of(request.getVariables());
         var automation = new Automation(
                 request.getAlias(),
                 request.getOptions(),
                 processor.resolveVariables(request.getVariables()),
-                processor.resolveTriggers(request.getTriggers()),
+                processor.resolveTriggers(request.getTriggers(), trigger -> variableReferences.isReferencedBy(trigger.getParams())),
                 processor.resolveConditions(request.getConditions()),
                 processor.resolveActions(request.getActions()),
                 processor.resolveResult(request.getResult()));
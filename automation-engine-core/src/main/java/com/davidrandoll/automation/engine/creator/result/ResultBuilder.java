@@ -16,7 +16,15 @@ public class ResultBuilder {
     private final IResultSupplier supplier;
     private final List<IResultInterceptor> interceptors;
 
+    /**
+     * The block is built once per definition and kept with it, so a definition that is resolved repeatedly
+     * only looks up and wraps its result the first time.
+     */
     public IBaseResult resolve(ResultDefinition result) {
+        return result.getBlockCache().get(this, result.hashCode(), () -> newResult(result));
+    }
+
+    private IBaseResult newResult(ResultDefinition result) {
         IResult instance = Optional.ofNullable(supplier.getResult(result.getResult()))
                 .orElseThrow(() -> new ResultNotFoundException(result.getResult()));
 
@@ -1,11 +1,14 @@
 package com.davidrandoll.automation.engine.creator.result;
 
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
 import com.fasterxml.jackson.annotation.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.experimental.FieldNameConstants;
 
 import java.util.HashMap;
@@ -35,6 +38,15 @@ public class ResultDefinition {
     @JsonProperty("0829b1b94f764e47b871865ea6628f34")
     private JsonNode params;
 
+    /**
+     * State derived from this definition, such as the block built from it, rebuilt when the definition changes
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @FieldNameConstants.Exclude
+    private final BlockCache blockCache = new BlockCache();
+
     @JsonAnyGetter
     public Map<String, Object> getResultsAsMap() {
         if (params == null || params.isNull()) {
@@ -2,6 +2,7 @@ package com.davidrandoll.automation.engine.creator.triggers;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
 import com.davidrandoll.automation.engine.core.triggers.BaseTriggerList;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
 import com.davidrandoll.automation.engine.core.triggers.IBaseTrigger;
 import com.davidrandoll.automation.engine.core.triggers.ITrigger;
 import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import static java.util.Objects.isNull;
 
@@ -20,26 +22,61 @@ public class TriggerBuilder {
     private final List<ITriggerInterceptor> triggerInterceptors;
 
     public BaseTriggerList resolve(List<TriggerDefinition> triggers) {
+        return resolve(triggers, trigger -> true);
+    }
+
+    /**
+     * @param referencesVariables tells whether a trigger definition may reference the automation's variables,
+     *                            so they must be resolved before the trigger is checked
+     */
+    public BaseTriggerList resolve(List<TriggerDefinition> triggers, Predicate<TriggerDefinition> referencesVariables) {
         var result = new BaseTriggerList();
 
         if (isNull(triggers))
             return result;
 
         for (TriggerDefinition trigger : triggers) {
-            IBaseTrigger newTriggerInstance = buildTrigger(trigger);
+            IBaseTrigger newTriggerInstance = buildTrigger(trigger, referencesVariables);
             result.add(newTriggerInstance);
         }
 
         return result;
     }
 
-    private IBaseTrigger buildTrigger(TriggerDefinition trigger) {
+    private IBaseTrigger buildTrigger(TriggerDefinition trigger, Predicate<TriggerDefinition> referencesVariables) {
+        var block = trigger.getBlockCache().get(this, trigger.hashCode(), () -> newTrigger(trigger));
+        var readsVariables = block.readsVariables() || referencesVariables.test(trigger);
+        return new IBaseTrigger() {
+            @Override
+            public boolean isTriggered(EventContext eventContext) {
+                return block.interceptingTrigger().isTriggered(eventContext, block.triggerContext());
+            }
+
+            @Override
+            public DeclaredEventTypes getDeclaredEventTypes() {
+                return block.declaredEventTypes();
+            }
+
+            @Override
+            public boolean readsVariables() {
+                return readsVariables;
+            }
+        };
+    }
+
+    /**
+     * The trigger is looked up and wrapped once per definition and kept with it, so definitions that are checked
+     * repeatedly, such as the triggers of a waitForTrigger action, only do it the first time.
+     */
+    private TriggerBlock newTrigger(TriggerDefinition trigger) {
         ITrigger triggerInstance = Optional.ofNullable(supplier.getTrigger(trigger.getTrigger()))
                 .orElseThrow(() -> new TriggerNotFoundException(trigger.getTrigger()));
 
         var interceptingTrigger = new InterceptingTrigger(triggerInstance, triggerInterceptors);
         var triggerContext = new TriggerContext(trigger);
-        return event -> interceptingTrigger.isTriggered(event, triggerContext);
+        return new TriggerBlock(interceptingTrigger, triggerContext,
+                interceptingTrigger.getDeclaredEventTypes(triggerContext),
+                interceptingTrigger.readsVariables(triggerContext));
     }
 
     public boolean anyTriggersTriggered(EventContext eventContext, List<TriggerDefinition> triggers) {
@@ -56,4 +93,8 @@ public class TriggerBuilder {
         BaseTriggerList resolvedTriggers = resolve(triggers);
         return resolvedTriggers.noneTriggered(eventContext);
     }
+
+    private record TriggerBlock(InterceptingTrigger interceptingTrigger, TriggerContext triggerContext,
+                                DeclaredEventTypes declaredEventTypes, boolean readsVariables) {
+    }
 }
@@ -33,7 +33,15 @@ public class VariableBuilder {
         return result;
     }
 
+    /**
+     * The block is built once per definition and kept with it, so definitions that are resolved repeatedly
+     * only look up and wrap their variable the first time.
+     */
     private IBaseVariable buildVariable(VariableDefinition variable) {
+        return variable.getBlockCache().get(this, variable.hashCode(), () -> newVariable(variable));
+    }
+
+    private IBaseVariable newVariable(VariableDefinition variable) {
         IVariable variableInstance = Optional.ofNullable(supplier.getVariable(variable.getVariable()))
                 .orElseThrow(() -> new VariableNotFoundException(variable.getVariable()));
 
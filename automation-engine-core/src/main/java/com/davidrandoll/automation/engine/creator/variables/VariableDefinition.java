@@ -1,10 +1,13 @@
 package com.davidrandoll.automation.engine.creator.variables;
 
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
 import com.fasterxml.jackson.annotation.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.experimental.FieldNameConstants;
 
 import java.util.HashMap;
@@ -34,4 +37,13 @@ public class VariableDefinition {
     @JsonAnySetter
     @JsonProperty("0829b1b94f764e47b871865ea6628f34")
     private Map<String, Object> params = new HashMap<>();
+
+    /**
+     * State derived from this definition, such as the block built from it, rebuilt when the definition changes
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @FieldNameConstants.Exclude
+    private final BlockCache blockCache = new BlockCache();
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.davidrandoll.automation.engine.creator.variables;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Build-time analysis of which template strings may reference an automation's variables.
+ * <p>
+ * Basic variables declare their names as their parameter keys, so a template only references them when it mentions
+ * one of those names. Any other variable type can add arbitrary names at runtime, in which case every template is
+ * assumed to reference a variable. Strings without template markers never reference variables.
+ * </p>
+ */
+public final class VariableReferences {
+    private static final List<String> TEMPLATE_MARKERS = List.of("{{", "{%", "#{");
+    private static final String BASIC_VARIABLE = "basic";
+
+    private final Pattern namePattern;
+    /**
+     * True when some variable names can only be known once the variables are resolved
+     */
+    private final boolean unknownNames;
+
+    private VariableReferences(Set<String> names, boolean unknownNames) {
+        this.unknownNames = unknownNames;
+        this.namePattern = names.isEmpty() ? null : Pattern.compile(names.stream()
+                .map(Pattern::quote)
+                .reduce((a, b) -> a + "|" + b)
+                .map(alternatives -> "(?<![\\w.])(" + alternatives + ")(?!\\w)")
+                .orElseThrow());
+    }
+
+    public static VariableReferences of(List<VariableDefinition> variables) {
+        var names = new HashSet<String>();
+        var unknownNames = false;
+        for (VariableDefinition variable : Optional.ofNullable(variables).orElse(List.of())) {
+            if (isNull(variable.getVariable()) || BASIC_VARIABLE.equalsIgnoreCase(variable.getVariable())) {
+                names.addAll(Optional.ofNullable(variable.getParams()).orElse(Map.of()).keySet());
+            } else {
+                unknownNames = true;
+            }
+        }
+        return new VariableReferences(names, unknownNames);
+    }
+
+    /**
+     * @param params the block parameters, as found in a definition
+     * @return true if any templated string in the parameters may reference a variable
+     */
+    public boolean isReferencedBy(Object params) {
+        if (params instanceof String text) return isReferencedBy(text);
+        if (params instanceof Map<?, ?> map) return map.values().stream().anyMatch(this::isReferencedBy);
+        if (params instanceof Collection<?> collection) return collection.stream().anyMatch(this::isReferencedBy);
+        return false;
+    }
+
+    private boolean isReferencedBy(String text) {
+        if (!isTemplated(text)) return false;
+        if (unknownNames) return true;
+        return namePattern != null && namePattern.matcher(text).find();
+    }
+
+    public static boolean isTemplated(String text) {
+        return text != null && TEMPLATE_MARKERS.stream().anyMatch(text::contains);
+    }
+}
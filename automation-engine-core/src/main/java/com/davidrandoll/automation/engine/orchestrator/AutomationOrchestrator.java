@@ -5,19 +5,76 @@ import com.davidrandoll.automation.engine.core.events.EventContext;
 import com.davidrandoll.automation.engine.core.events.IEvent;
 import com.davidrandoll.automation.engine.core.events.publisher.*;
 import com.davidrandoll.automation.engine.core.result.AutomationResult;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 @Slf4j
 @RequiredArgsConstructor
 public class AutomationOrchestrator implements IAEOrchestrator {
     private final IEventPublisher publisher;
     private final List<Automation> automations = new CopyOnWriteArrayList<>();
+    private volatile TriggerRoutingIndex routingIndex = TriggerRoutingIndex.EMPTY;
+
+    /**
+     * Default execution mode for automations that do not set the {@code triggerFirst} option.
+     * In trigger-first mode, the triggers are checked before the variables are resolved.
+     */
+    @Getter
+    @Setter
+    private volatile boolean triggerFirst;
+
+    /**
+     * Executor used to dispatch an event to its automations concurrently, or null to run them one after
+     * the other on the publishing thread.
+     */
+    @Getter
+    @Setter
+    private volatile Executor dispatchExecutor;
+
+    /**
+     * How long {@link #handleEvent} waits for concurrently dispatched automations to complete
+     */
+    @Getter
+    @Setter
+    private volatile Duration dispatchTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Default for automations that do not set the {@code virtualThreads} option. Such automations are run on
+     * their own virtual thread, and {@link #handleEvent} does not wait for them, so blocking actions (delays,
+     * waiting for triggers, HTTP or JDBC calls) do not hold the thread that published the event.
+     */
+    @Getter
+    @Setter
+    private volatile boolean virtualThreads;
+
+    /**
+     * Executor the automations in virtual-thread mode run on
+     */
+    @Getter
+    @Setter
+    private volatile Executor virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * How the results of the automations are published once they ran
+     */
+    @Getter
+    @Setter
+    private volatile ProcessedEventPublication processedEventPublication = ProcessedEventPublication.PER_AUTOMATION;
+
+    /**
+     * The fraction of skipped automations whose result is published, from 0 (none) to 1 (all)
+     */
+    @Getter
+    @Setter
+    private volatile double skippedResultSampleRate;
 
     @Override
     public List<Automation> getAutomations() {
@@ -27,12 +84,14 @@ public class AutomationOrchestrator implements IAEOrchestrator {
     @Override
     public void registerAutomation(Automation automation) {
         automations.add(automation);
+        rebuildRoutingIndex();
         publisher.publishEvent(new AutomationEngineRegisterEvent(automation));
     }
 
     @Override
     public void removeAutomation(Automation automation) {
         automations.remove(automation);
+        rebuildRoutingIndex();
         publisher.publishEvent(new AutomationEngineRemoveEvent(automation));
     }
 
@@ -40,6 +99,7 @@ public class AutomationOrchestrator implements IAEOrchestrator {
     public void removeAllAutomations() {
         var automationsCopy = new ArrayList<>(automations);
         automations.clear();
+        rebuildRoutingIndex();
         publisher.publishEvent(new AutomationEngineRemoveAllEvent(automationsCopy));
     }
 
@@ -57,19 +117,34 @@ public class AutomationOrchestrator implements IAEOrchestrator {
     public void handleEvent(EventContext eventContext, BiConsumer<Automation, EventContext> executionFunction) {
         if (eventContext == null) throw new IllegalArgumentException("EventContext cannot be null");
         if (eventContext.getEvent() == null) throw new IllegalArgumentException("Event cannot be null");
-        for (Automation automation : automations) {
-            executionFunction.accept(automation, eventContext);
+        var automationsToRun = routingIndex.route(eventContext.getEvent());
+        automationsToRun = detachVirtualThreadAutomations(automationsToRun, eventContext, executionFunction);
+        var batch = startBatch(automationsToRun);
+        try {
+            var executor = dispatchExecutor;
+            if (executor == null) {
+                for (Automation automation : automationsToRun) {
+                    executionFunction.accept(automation, fork(eventContext, batch));
+                }
+            } else if (!automationsToRun.isEmpty()) {
+                dispatchConcurrently(automationsToRun, eventContext, batch, executionFunction, executor);
+            }
+        } finally {
+            if (batch != null) batch.close();
         }
-        publisher.publishEvent(eventContext.getEvent()); //publish the event
-        publisher.publishEvent(eventContext); //publish the context
+        if (publisher.hasListeners(eventContext.getEvent().getClass()))
+            publisher.publishEvent(eventContext.getEvent()); //publish the event
+        if (publisher.hasListeners(EventContext.class))
+            publisher.publishEvent(eventContext); //publish the context
+        if (batch != null)
+            publisher.publishEvent(new AutomationEngineBatchProcessedEvent(eventContext, automationsToRun.size(), batch.results()));
     }
 
     @Override
     public AutomationResult executeAutomation(Automation automation, EventContext eventContext) {
         AutomationResult result;
 
-        automation.resolveVariables(eventContext);
-        if (automation.anyTriggerActivated(eventContext) && automation.allConditionsMet(eventContext)) {
+        if (isTriggered(automation, eventContext) && automation.allConditionsMet(eventContext)) {
             log.debug("Automation triggered and conditions met. Executing actions.");
             automation.performActions(eventContext);
             var executionSummary = automation.getExecutionSummary(eventContext);
@@ -78,7 +153,177 @@ public class AutomationOrchestrator implements IAEOrchestrator {
             log.debug("Automation not triggered or conditions not met. Skipping actions.");
             result = AutomationResult.skipped(automation, eventContext);
         }
-        publisher.publishEvent(new AutomationEngineProcessedEvent(automation, eventContext, result));
+        publishResult(automation, eventContext, result);
         return result;
     }
+
+    /**
+     * Publish the result according to the publication mode. Skipped results are only published when sampled.
+     * In aggregate mode, results of automations that do not run as part of {@link #handleEvent} are published
+     * on their own.
+     */
+    private void publishResult(Automation automation, EventContext eventContext, AutomationResult result) {
+        var publication = processedEventPublication;
+        if (publication == ProcessedEventPublication.NONE) return;
+        if (!result.isExecuted() && !isSkippedResultSampled()) return;
+
+        if (publication == ProcessedEventPublication.AGGREGATE) {
+            var collector = eventContext.getResultCollector();
+            if (collector != null && collector.test(result)) return;
+        }
+        if (publisher.hasListeners(AutomationEngineProcessedEvent.class))
+            publisher.publishEvent(new AutomationEngineProcessedEvent(automation, eventContext, result));
+    }
+
+    private boolean isSkippedResultSampled() {
+        var rate = skippedResultSampleRate;
+        if (rate <= 0) return false;
+        return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * @return the batch collecting the results of the automations, or null if they are not aggregated
+     */
+    private ResultBatch startBatch(List<Automation> automationsToRun) {
+        if (processedEventPublication != ProcessedEventPublication.AGGREGATE || automationsToRun.isEmpty())
+            return null;
+        if (!publisher.hasListeners(AutomationEngineBatchProcessedEvent.class))
+            return null;
+        return new ResultBatch();
+    }
+
+    private static EventContext fork(EventContext eventContext, ResultBatch batch) {
+        return batch == null ? eventContext.fork() : eventContext.fork(batch);
+    }
+
+    /**
+     * Run every automation on the executor, each with its own fork of the event context,
+     * and wait for all of them until the dispatch timeout.
+     * Automations still running after the timeout are cancelled by interrupting their thread, and those not started
+     * yet never run; an automation that ignores interrupts keeps running. The first failure is rethrown.
+     */
+    private void dispatchConcurrently(List<Automation> automationsToRun, EventContext eventContext,
+                                      ResultBatch batch,
+                                      BiConsumer<Automation, EventContext> executionFunction, Executor executor) {
+        // FutureTask interrupts its runner when cancelled, whatever executor runs it
+        var tasks = new ArrayList<FutureTask<Void>>(automationsToRun.size());
+        for (Automation automation : automationsToRun) {
+            var automationContext = fork(eventContext, batch);
+            var task = new FutureTask<Void>(() -> executionFunction.accept(automation, automationContext), null);
+            tasks.add(task);
+            executor.execute(task);
+        }
+
+        long deadline = System.nanoTime() + dispatchTimeout.toNanos();
+        Throwable failure = null;
+        try {
+            for (FutureTask<Void> task : tasks) {
+                try {
+                    task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    if (failure == null) failure = e.getCause();
+                }
+            }
+        } catch (TimeoutException e) {
+            log.warn("Event {} was not processed by all {} automations within {}", eventContext.getEventName(), tasks.size(), dispatchTimeout);
+            cancelAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(tasks);
+        }
+
+        if (failure instanceof RuntimeException re) throw re;
+        if (failure instanceof Error error) throw error;
+        if (failure != null) throw new CompletionException(failure);
+    }
+
+    private static void cancelAll(List<FutureTask<Void>> tasks) {
+        for (FutureTask<Void> task : tasks) {
+            task.cancel(true);
+        }
+    }
+
+    private boolean isTriggered(Automation automation, EventContext eventContext) {
+        if (isTriggerFirst(automation)) {
+            return automation.anyTriggerActivatedBeforeVariables(eventContext);
+        }
+        automation.resolveVariables(eventContext);
+        return automation.anyTriggerActivated(eventContext);
+    }
+
+    /**
+     * Start the automations in virtual-thread mode on their own virtual thread, without waiting for them.
+     *
+     * @return the automations to run on the calling thread or the dispatch executor
+     */
+    private List<Automation> detachVirtualThreadAutomations(List<Automation> automationsToRun, EventContext eventContext,
+                                                            BiConsumer<Automation, EventContext> executionFunction) {
+        List<Automation> remaining = null;
+        for (int i = 0; i < automationsToRun.size(); i++) {
+            var automation = automationsToRun.get(i);
+            if (!isEnabled(automation, "virtualThreads", virtualThreads)) {
+                if (remaining != null) remaining.add(automation);
+                continue;
+            }
+            if (remaining == null) remaining = new ArrayList<>(automationsToRun.subList(0, i));
+            var automationContext = eventContext.fork();
+            virtualThreadExecutor.execute(() -> {
+                try {
+                    executionFunction.accept(automation, automationContext);
+                } catch (RuntimeException e) {
+                    log.error("Automation {} failed on its virtual thread", automation.getAlias(), e);
+                }
+            });
+        }
+        return remaining == null ? automationsToRun : remaining;
+    }
+
+    private boolean isTriggerFirst(Automation automation) {
+        return isEnabled(automation, "triggerFirst", triggerFirst);
+    }
+
+    private static boolean isEnabled(Automation automation, String optionName, boolean defaultValue) {
+        Object option = automation.getOptions().get(optionName);
+        if (option == null) return defaultValue;
+        if (option instanceof Boolean bool) return bool;
+        if (option instanceof String str) {
+            return "true".equalsIgnoreCase(str) || "yes".equalsIgnoreCase(str) || "1".equals(str);
+        }
+        if (option instanceof Number num) {
+            return num.intValue() != 0;
+        }
+        return false;
+    }
+
+    /**
+     * The results of the automations run for one event, carried by the fork each of them runs with.
+     * Once the batch is closed, results of automations still running are published on their own.
+     */
+    private static final class ResultBatch implements Predicate<AutomationResult> {
+        private final List<AutomationResult> results = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public synchronized boolean test(AutomationResult result) {
+            if (closed) return false;
+            results.add(result);
+            return true;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        synchronized List<AutomationResult> results() {
+            return List.copyOf(results);
+        }
+    }
+
+    /**
+     * Rebuild the trigger-routing index from the registered automations.
+     * Synchronized so that the last rebuild always reflects the latest registrations.
+     */
+    private synchronized void rebuildRoutingIndex() {
+        routingIndex = new TriggerRoutingIndex(automations);
+    }
 }
\ No newline at end of file
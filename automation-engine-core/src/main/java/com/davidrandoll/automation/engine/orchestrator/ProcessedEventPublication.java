@@ -0,0 +1,22 @@
+package com.davidrandoll.automation.engine.orchestrator;
+
+/**
+ * How the orchestrator reports the results of the automations it ran for an event
+ */
+public enum ProcessedEventPublication {
+    /**
+     * Publish an {@link com.davidrandoll.automation.engine.core.events.publisher.AutomationEngineProcessedEvent}
+     * for each automation
+     */
+    PER_AUTOMATION,
+    /**
+     * Publish a single
+     * {@link com.davidrandoll.automation.engine.core.events.publisher.AutomationEngineBatchProcessedEvent}
+     * with the results of all the automations that handled the event
+     */
+    AGGREGATE,
+    /**
+     * Do not publish the results
+     */
+    NONE
+}
@@ -0,0 +1,95 @@
+package com.davidrandoll.automation.engine.orchestrator;
+
+import com.davidrandoll.automation.engine.core.Automation;
+import com.davidrandoll.automation.engine.core.events.IEvent;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.IBaseTrigger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes events to the automations whose triggers can possibly fire for them.
+ * <p>
+ * The index is an immutable snapshot of the registered automations, rebuilt whenever they change.
+ * An automation is only indexed when every one of its triggers declares the events it can fire for.
+ * Automations without triggers, or with a trigger that declares {@link DeclaredEventTypes#any()},
+ * receive every event, exactly like a full scan.
+ * </p>
+ * Routed automations keep their registration order.
+ */
+final class TriggerRoutingIndex {
+    static final TriggerRoutingIndex EMPTY = new TriggerRoutingIndex(List.of());
+
+    private final List<Automation> automations;
+    private final List<Integer> unindexed = new ArrayList<>();
+    private final Map<Class<?>, List<Integer>> byEventClass = new HashMap<>();
+    private final Map<String, List<Integer>> byEventTypeName = new HashMap<>();
+    private final Map<Class<?>, List<Integer>> routesByEventClass = new ConcurrentHashMap<>();
+
+    TriggerRoutingIndex(List<Automation> automations) {
+        this.automations = List.copyOf(automations);
+        for (int position = 0; position < this.automations.size(); position++) {
+            index(position, this.automations.get(position));
+        }
+    }
+
+    /**
+     * @return the automations that can possibly be triggered by the event, in registration order
+     */
+    List<Automation> route(IEvent event) {
+        if (unindexed.size() == automations.size()) return automations;
+
+        var positions = routesByEventClass.computeIfAbsent(event.getClass(), this::resolvePositions);
+        var eventType = event.getEventType();
+        var named = eventType == null ? null : byEventTypeName.get(DeclaredEventTypes.normalize(eventType));
+        if (named != null) {
+            var merged = new TreeSet<>(positions);
+            merged.addAll(named);
+            positions = List.copyOf(merged);
+        }
+
+        var result = new ArrayList<Automation>(positions.size());
+        for (Integer position : positions) {
+            result.add(automations.get(position));
+        }
+        return result;
+    }
+
+    private void index(int position, Automation automation) {
+        var triggers = automation.getTriggers();
+        var declarations = new ArrayList<DeclaredEventTypes>(triggers.size());
+        for (IBaseTrigger trigger : triggers) {
+            var declared = trigger.getDeclaredEventTypes();
+            if (declared == null || declared.isAny()) {
+                unindexed.add(position);
+                return;
+            }
+            declarations.add(declared);
+        }
+
+        if (declarations.isEmpty()) {
+            unindexed.add(position);
+            return;
+        }
+
+        var eventClasses = new HashSet<Class<?>>();
+        var eventTypeNames = new HashSet<String>();
+        for (DeclaredEventTypes declared : declarations) {
+            eventClasses.addAll(declared.getEventClasses());
+            eventTypeNames.addAll(declared.getEventTypeNames());
+        }
+        eventClasses.forEach(eventClass -> byEventClass.computeIfAbsent(eventClass, k -> new ArrayList<>()).add(position));
+        eventTypeNames.forEach(name -> byEventTypeName.computeIfAbsent(name, k -> new ArrayList<>()).add(position));
+    }
+
+    private List<Integer> resolvePositions(Class<?> eventClass) {
+        var positions = new TreeSet<>(unindexed);
+        byEventClass.forEach((declaredClass, indexed) -> {
+            if (declaredClass.isAssignableFrom(eventClass)) {
+                positions.addAll(indexed);
+            }
+        });
+        return List.copyOf(positions);
+    }
+}
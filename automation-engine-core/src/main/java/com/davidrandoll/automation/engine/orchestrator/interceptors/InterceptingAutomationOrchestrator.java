@@ -5,17 +5,30 @@ import com.davidrandoll.automation.engine.core.events.EventContext;
 import com.davidrandoll.automation.engine.core.events.IEvent;
 import com.davidrandoll.automation.engine.core.result.AutomationResult;
 import com.davidrandoll.automation.engine.orchestrator.IAEOrchestrator;
-import lombok.RequiredArgsConstructor;
-
 import java.util.List;
 import java.util.function.BiConsumer;
 
-@RequiredArgsConstructor
 public class InterceptingAutomationOrchestrator implements IAEOrchestrator {
     private final IAEOrchestrator delegate;
     private final List<IAutomationExecutionInterceptor> executionInterceptors;
     private final List<IAutomationHandleEventInterceptor> handleEventInterceptors;
 
+    /**
+     * The interceptor chains are built once, since the interceptors never change
+     */
+    private final IAutomationExecutionChain executionChain;
+    private final IAutomationHandleEventChain handleEventChain;
+
+    public InterceptingAutomationOrchestrator(IAEOrchestrator delegate,
+                                              List<IAutomationExecutionInterceptor> executionInterceptors,
+                                              List<IAutomationHandleEventInterceptor> handleEventInterceptors) {
+        this.delegate = delegate;
+        this.executionInterceptors = executionInterceptors;
+        this.handleEventInterceptors = handleEventInterceptors;
+        this.executionChain = buildExecutionChain(0);
+        this.handleEventChain = buildHandleEventChain(0, this::executeAutomation);
+    }
+
     @Override
     public List<Automation> getAutomations() {
         return delegate.getAutomations();
@@ -38,12 +51,12 @@ public class InterceptingAutomationOrchestrator implements IAEOrchestrator {
 
     @Override
     public void handleEventContext(EventContext eventContext) {
-        this.handleEvent(eventContext, this::executeAutomation);
+        handleEventChain.proceed(eventContext);
     }
 
     @Override
     public void handleEvent(IEvent event) {
-        this.handleEvent(EventContext.of(event), this::executeAutomation);
+        handleEventChain.proceed(EventContext.of(event));
     }
 
     @Override
@@ -54,8 +67,7 @@ public class InterceptingAutomationOrchestrator implements IAEOrchestrator {
 
     @Override
     public AutomationResult executeAutomation(Automation automation, EventContext context) {
-        IAutomationExecutionChain chain = buildExecutionChain(0);
-        return chain.proceed(automation, context);
+        return executionChain.proceed(automation, context);
     }
 
     private IAutomationExecutionChain buildExecutionChain(int index) {
@@ -18,6 +18,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -110,6 +111,17 @@ class AutomationEngineTest {
         verifyNoMoreInteractions(orchestrator);
     }
 
+    @Test
+    void testPublishEventWithSource_ShouldHandleContextWithSource() {
+        IEvent event = mock(IEvent.class);
+
+        automationEngine.publishEvent(event, "com.example.Publisher");
+
+        verify(orchestrator).handleEventContext(argThat(context ->
+                context.getEvent() == event && "com.example.Publisher".equals(context.getSource())));
+        verifyNoMoreInteractions(orchestrator);
+    }
+
     @Test
     void testExecuteAutomation_ShouldReturnResult() {
         Automation automation = mock(Automation.class);
@@ -136,14 +148,14 @@ class AutomationEngineTest {
         AutomationResult result = mock(AutomationResult.class);
         when(result.isExecuted()).thenReturn(true);
 
-        when(factory.createAutomation("yaml", yaml)).thenReturn(automation);
+        when(factory.getOrCreateAutomation("yaml", yaml)).thenReturn(automation);
         when(orchestrator.executeAutomation(automation, context)).thenReturn(result);
 
         AutomationResult actual = automationEngine.executeAutomationWithYaml(yaml, context);
 
         assertEquals(result, actual);
         assertThat(actual.isExecuted()).isTrue();
-        verify(factory).createAutomation("yaml", yaml);
+        verify(factory).getOrCreateAutomation("yaml", yaml);
         verify(orchestrator).executeAutomation(automation, context);
     }
 
@@ -156,17 +168,29 @@ class AutomationEngineTest {
         AutomationResult result = mock(AutomationResult.class);
         when(result.getAutomation()).thenReturn(automation);
 
-        when(factory.createAutomation("yaml", yaml)).thenReturn(automation);
+        when(factory.getOrCreateAutomation("yaml", yaml)).thenReturn(automation);
         when(orchestrator.executeAutomation(eq(automation), any(EventContext.class))).thenReturn(result);
 
         AutomationResult actual = automationEngine.executeAutomationWithYaml(yaml, event);
 
         assertEquals(result, actual);
         assertThat(actual.getAutomation().getAlias()).isEqualTo("event-test");
-        verify(factory).createAutomation("yaml", yaml);
+        verify(factory).getOrCreateAutomation("yaml", yaml);
         verify(orchestrator).executeAutomation(eq(automation), any(EventContext.class));
     }
 
+    @Test
+    void testExecuteAutomationWithYamlAndEvent_ShouldDetectCallerAsSource() {
+        String yaml = "alias: event-test";
+        Automation automation = mock(Automation.class);
+        when(factory.getOrCreateAutomation("yaml", yaml)).thenReturn(automation);
+
+        automationEngine.executeAutomationWithYaml(yaml, mock(IEvent.class));
+
+        verify(orchestrator).executeAutomation(eq(automation), argThat(context ->
+                AutomationEngineTest.class.getName().equals(context.getSource())));
+    }
+
     @Test
     void testExecuteAutomationWithJson_ShouldParseAndExecute() {
         String json = "{\"alias\": \"json-test\"}";
@@ -175,14 +199,14 @@ class AutomationEngineTest {
         AutomationResult result = mock(AutomationResult.class);
         when(result.isExecuted()).thenReturn(false);
 
-        when(factory.createAutomation("json", json)).thenReturn(automation);
+        when(factory.getOrCreateAutomation("json", json)).thenReturn(automation);
         when(orchestrator.executeAutomation(automation, context)).thenReturn(result);
 
         AutomationResult actual = automationEngine.executeAutomationWithJson(json, context);
 
         assertEquals(result, actual);
         assertThat(actual.isExecuted()).isFalse();
-        verify(factory).createAutomation("json", json);
+        verify(factory).getOrCreateAutomation("json", json);
         verify(orchestrator).executeAutomation(automation, context);
     }
 
@@ -193,13 +217,13 @@ class AutomationEngineTest {
         Automation automation = mock(Automation.class);
         AutomationResult result = mock(AutomationResult.class);
 
-        when(factory.createAutomation("json", json)).thenReturn(automation);
+        when(factory.getOrCreateAutomation("json", json)).thenReturn(automation);
         when(orchestrator.executeAutomation(eq(automation), any(EventContext.class))).thenReturn(result);
 
         AutomationResult actual = automationEngine.executeAutomationWithJson(json, event);
 
         assertEquals(result, actual);
-        verify(factory).createAutomation("json", json);
+        verify(factory).getOrCreateAutomation("json", json);
         verify(orchestrator).executeAutomation(eq(automation), any(EventContext.class));
     }
 
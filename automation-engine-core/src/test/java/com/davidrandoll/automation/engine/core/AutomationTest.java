@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class AutomationTest {
 
@@ -87,6 +88,40 @@ class AutomationTest {
         assertThat(copy.getResult()).isSameAs(original.getResult()); // Result is shared
     }
 
+    @Test
+    void testConstructor_copiesAndFreezesBlockLists() {
+        // Given
+        BaseActionList actions = BaseActionList.of(new SimpleAction("action1"));
+
+        // When
+        Automation automation = new Automation("test", null, null, null, actions, null);
+        actions.add(new SimpleAction("action2"));
+
+        // Then
+        assertThat(automation.getActions()).hasSize(1);
+        assertThatThrownBy(() -> automation.getActions().add(new SimpleAction("action3")))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> {
+            var iterator = automation.getActions().iterator();
+            iterator.next();
+            iterator.remove();
+        }).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> automation.getActions().subList(0, 1).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testConstructor_sharesFrozenBlockLists() {
+        // Given
+        Automation original = new Automation("test", null, null, null, BaseActionList.of(new SimpleAction("action1")), null);
+
+        // When
+        Automation other = new Automation("other", null, null, null, original.getActions(), null);
+
+        // Then
+        assertThat(other.getActions()).isSameAs(original.getActions());
+    }
+
     @Test
     void testResolveVariables_resolvesAllVariables() {
         // Given
@@ -290,6 +325,68 @@ class AutomationTest {
         assertThat(summary).isNull();
     }
 
+    @Test
+    void testAnyTriggerActivatedBeforeVariables_skipsVariablesWhenNotTriggered() {
+        // Given
+        SimpleVariable variable = new SimpleVariable("var1", "value1");
+        SimpleTrigger trigger = new SimpleTrigger("trigger1", false);
+        trigger.setReadsVariables(false);
+        Automation automation = new Automation("test", BaseVariableList.of(variable), BaseTriggerList.of(trigger), null, null, null);
+        EventContext context = new EventContext(new TestEvent());
+
+        // When
+        boolean triggered = automation.anyTriggerActivatedBeforeVariables(context);
+
+        // Then
+        assertThat(triggered).isFalse();
+        assertThat(trigger.getCheckCount()).isEqualTo(1);
+        assertThat(variable.getResolveCount()).isZero();
+        assertThat(context.getMetadata()).doesNotContainKey("var1");
+    }
+
+    @Test
+    void testAnyTriggerActivatedBeforeVariables_resolvesVariablesOnceTriggered() {
+        // Given
+        SimpleVariable variable = new SimpleVariable("var1", "value1");
+        SimpleTrigger dependent = new SimpleTrigger("dependent", true);
+        SimpleTrigger independent = new SimpleTrigger("independent", true);
+        independent.setReadsVariables(false);
+        Automation automation = new Automation("test", BaseVariableList.of(variable),
+                BaseTriggerList.of(dependent, independent), null, null, null);
+        EventContext context = new EventContext(new TestEvent());
+
+        // When
+        boolean triggered = automation.anyTriggerActivatedBeforeVariables(context);
+
+        // Then
+        assertThat(triggered).isTrue();
+        assertThat(independent.getCheckCount()).isEqualTo(1);
+        assertThat(dependent.getCheckCount()).isZero();
+        assertThat(variable.getResolveCount()).isEqualTo(1);
+        assertThat(context.getMetadata()).containsEntry("var1", "value1");
+    }
+
+    @Test
+    void testAnyTriggerActivatedBeforeVariables_resolvesVariablesBeforeDependentTriggers() {
+        // Given
+        SimpleVariable variable = new SimpleVariable("var1", "value1");
+        SimpleTrigger independent = new SimpleTrigger("independent", false);
+        independent.setReadsVariables(false);
+        SimpleTrigger dependent = new SimpleTrigger("dependent", true);
+        Automation automation = new Automation("test", BaseVariableList.of(variable),
+                BaseTriggerList.of(independent, dependent), null, null, null);
+        EventContext context = new EventContext(new TestEvent());
+
+        // When
+        boolean triggered = automation.anyTriggerActivatedBeforeVariables(context);
+
+        // Then
+        assertThat(triggered).isTrue();
+        assertThat(variable.getResolveCount()).isEqualTo(1);
+        assertThat(dependent.getCheckCount()).isEqualTo(1);
+        assertThat(dependent.getCheckedContexts().getFirst().getMetadata()).containsEntry("var1", "value1");
+    }
+
     @Test
     void testFullAutomationFlow() {
         // Given - Create a complete automation
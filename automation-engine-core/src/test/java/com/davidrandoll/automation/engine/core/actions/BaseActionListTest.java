@@ -1,14 +1,18 @@
 package com.davidrandoll.automation.engine.core.actions;
 
 import com.davidrandoll.automation.engine.core.actions.exceptions.StopActionSequenceException;
+import com.davidrandoll.automation.engine.core.actions.exceptions.SuspendActionSequenceException;
 import com.davidrandoll.automation.engine.core.events.EventContext;
 import com.davidrandoll.automation.engine.test.TestEvent;
 import com.davidrandoll.automation.engine.test.mocks.SimpleAction;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -97,6 +101,47 @@ class BaseActionListTest {
         // Note: Second action won't execute if exception is thrown in first
     }
 
+    @Test
+    void testExecuteAllSuspendable_resumesRemainingActionsFromScheduler() throws InterruptedException {
+        // Given
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        SimpleAction action1 = new SimpleAction("action1");
+        action1.setExceptionToThrow(new SuspendActionSequenceException(Duration.ofMillis(50), scheduler));
+        SimpleAction action2 = new SimpleAction("action2");
+        BaseActionList list = BaseActionList.of(action1, action2);
+        EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
+
+        // When
+        list.executeAllSuspendable(context);
+
+        // Then - the remaining action only runs once the delay has passed
+        assertThat(action2.getExecutionCount()).isZero();
+        scheduler.shutdown();
+        assertThat(scheduler.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(action2.getExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testExecuteAll_waitsForSuspensionOnThread() {
+        // Given
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        SimpleAction action1 = new SimpleAction("action1");
+        action1.setExceptionToThrow(new SuspendActionSequenceException(Duration.ofMillis(50), scheduler));
+        SimpleAction action2 = new SimpleAction("action2");
+        BaseActionList list = BaseActionList.of(action1, action2);
+        EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
+
+        // When
+        long start = System.nanoTime();
+        list.executeAll(context);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        scheduler.shutdownNow();
+
+        // Then
+        assertThat(elapsed).isGreaterThanOrEqualTo(50);
+        assertThat(action2.getExecutionCount()).isEqualTo(1);
+    }
+
     @Test
     void testExecuteAll_propagatesOtherExceptions() {
         // Given
@@ -0,0 +1,44 @@
+package com.davidrandoll.automation.engine.core.actions.interceptors;
+
+import com.davidrandoll.automation.engine.core.actions.ActionContext;
+import com.davidrandoll.automation.engine.core.actions.IAction;
+import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.test.TestEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterceptingActionTest {
+
+    @Test
+    void testExecute_runsInterceptorsInOrderOnEveryExecution() {
+        // Given
+        List<String> calls = new ArrayList<>();
+        IAction action = (ec, ac) -> calls.add("action:" + ac.getData().get("message"));
+        IActionInterceptor first = (ec, ac, chain) -> {
+            calls.add("first");
+            chain.execute(ec, ac);
+        };
+        IActionInterceptor second = (ec, ac, chain) -> {
+            calls.add("second");
+            chain.execute(ec, ac.changeData(Map.of("message", "changed")));
+        };
+        var interceptingAction = new InterceptingAction(action, List.of(first, second));
+        var data = new HashMap<String, Object>(Map.of("message", "original"));
+        var actionContext = new ActionContext("alias", "description", "action", data);
+        var eventContext = EventContext.of(new TestEvent());
+
+        // When
+        interceptingAction.execute(eventContext, actionContext);
+        interceptingAction.execute(eventContext, actionContext);
+
+        // Then
+        assertThat(calls).containsExactly("first", "second", "action:changed", "first", "second", "action:changed");
+        assertThat(actionContext.getData()).isSameAs(data).containsEntry("message", "original");
+    }
+}
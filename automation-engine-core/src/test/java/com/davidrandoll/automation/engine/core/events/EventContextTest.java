@@ -4,9 +4,11 @@ import com.davidrandoll.automation.engine.test.TestEvent;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
 
 class EventContextTest {
 
@@ -114,6 +116,73 @@ class EventContextTest {
         assertThat(eventData).containsEntry("message", "overridden message");
     }
 
+    @Test
+    void testGetEventData_reusedUntilMetadataChanges() {
+        // Given
+        EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
+        context.addMetadata("key1", "value1");
+
+        // When
+        Map<String, Object> first = context.getEventData();
+        Map<String, Object> second = context.getEventData();
+        context.getMetadata().put("key2", "value2");
+        Map<String, Object> third = context.getEventData();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first).containsEntry("key2", "value2");
+        assertThat(first).doesNotContainKey("key2");
+    }
+
+    @Test
+    void testGetEventData_refreshedAfterWritesThroughMetadataViews() {
+        // Given
+        EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
+        context.addMetadata("key1", "value1");
+        context.addMetadata("key2", "value2");
+        context.addMetadata("key3", "value3");
+        context.addMetadata("key4", "value4");
+
+        // When
+        Map<String, Object> before = context.getEventData();
+        context.getMetadata().entrySet().forEach(entry -> {
+            if ("key1".equals(entry.getKey())) entry.setValue("changed");
+        });
+        Map<String, Object> afterSetValue = context.getEventData();
+        context.getMetadata().keySet().remove("key2");
+        Map<String, Object> afterKeyRemoval = context.getEventData();
+        context.getMetadata().values().remove("value3");
+        Map<String, Object> afterValueRemoval = context.getEventData();
+        var iterator = context.getMetadata().entrySet().iterator();
+        while (iterator.hasNext()) {
+            if ("key4".equals(iterator.next().getKey())) iterator.remove();
+        }
+        Map<String, Object> afterIteratorRemoval = context.getEventData();
+
+        // Then
+        assertThat(before).containsEntry("key1", "value1");
+        assertThat(afterSetValue).containsEntry("key1", "changed");
+        assertThat(afterKeyRemoval).doesNotContainKey("key2");
+        assertThat(afterValueRemoval).doesNotContainKey("key3");
+        assertThat(afterIteratorRemoval).doesNotContainKey("key4");
+    }
+
+    @Test
+    void testGetEventData_forkSeesParentMetadataChanges() {
+        // Given
+        EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
+        EventContext fork = context.fork();
+        Map<String, Object> before = fork.getEventData();
+
+        // When
+        context.addMetadata("key1", "value1");
+
+        // Then
+        assertThat(before).doesNotContainKey("key1");
+        assertThat(fork.getEventData()).containsEntry("key1", "value1");
+        assertThat(fork.getEventData().get("event")).isSameAs(context.getEventData().get("event"));
+    }
+
     @Test
     void testAddMetadata_withMap() {
         // Given
@@ -217,6 +286,24 @@ class EventContextTest {
         assertThat(customValue).isEqualTo("customValue");
     }
 
+    @Test
+    void testGetMetadata_matchesEventDataPrecedence() {
+        // Given
+        TestEvent event = TestEvent.builder()
+                .eventType("TEST")
+                .message("test message")
+                .build();
+        EventContext context = new EventContext(event);
+        context.addMetadata("eventType", "overridden");
+        context.addMetadata("message", null);
+
+        // Then
+        for (String key : List.of("eventType", "message", "value", "event", "missing")) {
+            assertThat(context.getMetadata(key)).as(key).isEqualTo(context.getEventData().get(key));
+        }
+        assertThat(context.getMetadata("event")).asInstanceOf(MAP).containsEntry("message", "test message");
+    }
+
     @Test
     void testGetMetadata_withNonExistentKey_returnsNull() {
         // Given
@@ -242,6 +329,130 @@ class EventContextTest {
                 .hasMessageContaining("Key cannot be null");
     }
 
+    @Test
+    void testFork_readsThroughToParentMetadata() {
+        // Given
+        TestEvent event = TestEvent.builder().eventType("TEST").build();
+        EventContext context = new EventContext(event);
+        context.addMetadata("shared", "value");
+
+        // When
+        EventContext fork = context.fork();
+        context.addMetadata("addedLater", 1);
+
+        // Then
+        assertThat(fork.getEvent()).isSameAs(event);
+        assertThat(fork.getTimestamp()).isEqualTo(context.getTimestamp());
+        assertThat(fork.getMetadata()).containsEntry("shared", "value").containsEntry("addedLater", 1);
+        assertThat(fork.getMetadata("shared")).isEqualTo("value");
+    }
+
+    @Test
+    void testFork_keepsWritesLocal() {
+        // Given
+        EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
+        context.addMetadata("shared", "value");
+        context.addMetadata("removed", "value");
+
+        // When
+        EventContext fork = context.fork();
+        fork.addMetadata("shared", "overridden");
+        fork.addMetadata("forkOnly", null);
+        fork.removeMetadata("removed");
+
+        // Then
+        assertThat(fork.getMetadata()).containsOnlyKeys("shared", "forkOnly");
+        assertThat(fork.getMetadata()).containsEntry("shared", "overridden").containsEntry("forkOnly", null);
+        assertThat(context.getMetadata()).containsOnlyKeys("shared", "removed");
+        assertThat(context.getMetadata()).containsEntry("shared", "value");
+    }
+
+    @Test
+    void testFork_viewsWriteThroughToFork() {
+        // Given
+        EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
+        context.addMetadata("parent1", "value1");
+        context.addMetadata("parent2", "value2");
+        context.addMetadata("parent3", "value3");
+        EventContext fork = context.fork();
+        fork.addMetadata("local1", "value4");
+        fork.addMetadata("local2", "value5");
+
+        // When
+        fork.getMetadata().entrySet().forEach(entry -> {
+            if ("parent1".equals(entry.getKey())) entry.setValue("changed");
+        });
+        fork.getMetadata().keySet().remove("parent2");
+        fork.getMetadata().entrySet().removeIf(entry -> "local1".equals(entry.getKey()));
+        fork.getMetadata().values().remove("value3");
+
+        // Then
+        assertThat(fork.getMetadata()).containsOnlyKeys("parent1", "local2").containsEntry("parent1", "changed");
+        assertThat(fork.getMetadata()).hasSize(2);
+        assertThat(context.getMetadata()).containsOnlyKeys("parent1", "parent2", "parent3").containsEntry("parent1", "value1");
+
+        // When
+        fork.getMetadata().values().clear();
+
+        // Then
+        assertThat(fork.getMetadata()).isEmpty();
+        assertThat(context.getMetadata()).hasSize(3);
+    }
+
+    @Test
+    void testFork_concurrentPutAndRemoveLeaveKeyConsistent() throws InterruptedException {
+        // Given
+        EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
+        context.addMetadata("key", "parent");
+        EventContext fork = context.fork();
+        Map<String, Object> metadata = fork.getMetadata();
+
+        // When
+        Thread writer = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 10_000; i++) metadata.put("key", "local");
+        });
+        Thread remover = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 10_000; i++) metadata.remove("key");
+        });
+        writer.join();
+        remover.join();
+
+        // Then
+        if (metadata.containsKey("key")) {
+            assertThat(metadata.get("key")).isEqualTo("local");
+            assertThat(metadata).containsOnlyKeys("key");
+        } else {
+            assertThat(metadata.get("key")).isNull();
+            assertThat(metadata).isEmpty();
+        }
+    }
+
+    @Test
+    void testConstructor_withExplicitSource() {
+        // When
+        EventContext context = EventContext.of(new TestEvent(), "com.example.Publisher");
+
+        // Then
+        assertThat(context.getSource()).isEqualTo("com.example.Publisher");
+        assertThat(context.fork().getSource()).isEqualTo("com.example.Publisher");
+    }
+
+    @Test
+    void testConstructor_withSourceDetectionDisabled() {
+        // Given
+        EventContext.setSourceDetectionEnabled(false);
+
+        try {
+            // When
+            EventContext context = new EventContext(new TestEvent());
+
+            // Then
+            assertThat(context.getSource()).isEmpty();
+        } finally {
+            EventContext.setSourceDetectionEnabled(true);
+        }
+    }
+
     @Test
     void testDetermineSourceFromStackTrace_returnsNonEmptyString() {
         // When
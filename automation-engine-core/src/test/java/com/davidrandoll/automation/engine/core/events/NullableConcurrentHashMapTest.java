@@ -189,4 +189,68 @@ class NullableConcurrentHashMapTest {
         assertThat(map.get("key3")).isNull();
         assertThat(map.containsKey("key3")).isTrue();
     }
+
+    @Test
+    void testEntrySetIsLiveView() {
+        // Given
+        map.put("key1", "value1");
+        var entries = map.entrySet();
+
+        // When
+        map.put("key2", null);
+        entries.iterator().forEachRemaining(entry -> {
+            if ("key1".equals(entry.getKey())) entry.setValue(null);
+        });
+
+        // Then
+        assertThat(entries).hasSize(2);
+        assertThat(map.get("key1")).isNull();
+        assertThat(map.containsKey("key1")).isTrue();
+        assertThat(map.entrySet()).isSameAs(entries);
+    }
+
+    @Test
+    void testValuesRemoveWritesThrough() {
+        // Given
+        map.put("key1", "value1");
+        map.put("key2", null);
+
+        // When
+        map.values().remove(null);
+
+        // Then
+        assertThat(map).containsOnlyKeys("key1");
+    }
+
+    @Test
+    void testKeySetRemoveWritesThrough() {
+        // Given
+        map.put("key1", "value1");
+        map.put("key2", null);
+
+        // When
+        boolean removed = map.keySet().remove("key2");
+        var iterator = map.keySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(map).isEmpty();
+        assertThat(map.keySet().remove("missing")).isFalse();
+    }
+
+    @Test
+    void testEqualsOtherMapWithNullValues() {
+        // Given
+        map.put("key1", "value1");
+        map.put("key2", null);
+        Map<String, String> other = new HashMap<>();
+        other.put("key1", "value1");
+        other.put("key2", null);
+
+        // Then
+        assertThat(map).isEqualTo(other);
+        assertThat(map.hashCode()).isEqualTo(other.hashCode());
+    }
 }
@@ -22,7 +22,7 @@ class AutomationResultTest {
         // Then
         assertThat(result.isExecuted()).isTrue();
         assertThat(result.getAutomation()).isNotNull();
-        assertThat(result.getAutomation()).isNotSameAs(automation); // Should be a copy
+        assertThat(result.getAutomation()).isSameAs(automation); // Automations are immutable, so not copied
         assertThat(result.getContext()).isEqualTo(context);
         assertThat(result.getResult()).isPresent();
         assertThat(result.getResult().get()).isEqualTo(executionSummary);
@@ -99,7 +99,7 @@ class AutomationResultTest {
     }
 
     @Test
-    void testAutomationCopy_isIndependent() {
+    void testAutomation_isSharedAndUnmodifiable() {
         // Given
         Automation originalAutomation = createSimpleAutomation();
         EventContext context = new EventContext(TestEvent.builder().eventType("TEST").build());
@@ -108,8 +108,9 @@ class AutomationResultTest {
         AutomationResult result = AutomationResult.executed(originalAutomation, context, "result");
 
         // Then
-        assertThat(result.getAutomation()).isNotSameAs(originalAutomation);
-        assertThat(result.getAutomation().getAlias()).isEqualTo(originalAutomation.getAlias());
+        assertThat(result.getAutomation()).isSameAs(originalAutomation);
+        assertThatThrownBy(() -> result.getAutomation().getActions().add(ctx -> {
+        })).isInstanceOf(UnsupportedOperationException.class);
     }
 
     private Automation createSimpleAutomation() {
@@ -0,0 +1,114 @@
+package com.davidrandoll.automation.engine.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockCacheTest {
+
+    @Test
+    void testGet_loadsOncePerKey() {
+        // Given
+        var cache = new BlockCache();
+        var loads = new AtomicInteger();
+
+        // When
+        var first = cache.get("key", 1, () -> "value" + loads.incrementAndGet());
+        var second = cache.get("key", 1, () -> "value" + loads.incrementAndGet());
+        var other = cache.get("other", 1, () -> "value" + loads.incrementAndGet());
+
+        // Then
+        assertThat(first).isEqualTo("value1");
+        assertThat(second).isSameAs(first);
+        assertThat(other).isEqualTo("value2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testGet_doesNotStoreNull() {
+        // Given
+        var cache = new BlockCache();
+        var loads = new AtomicInteger();
+
+        // When
+        cache.get("key", 1, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        var value = cache.get("key", 1, () -> "value" + loads.incrementAndGet());
+
+        // Then
+        assertThat(value).isEqualTo("value2");
+    }
+
+    @Test
+    void testGet_reloadsForOtherVersion() {
+        // Given
+        var cache = new BlockCache();
+        var loads = new AtomicInteger();
+
+        // When
+        var first = cache.get("key", 1, () -> "value" + loads.incrementAndGet());
+        var changed = cache.get("key", 2, () -> "value" + loads.incrementAndGet());
+        var again = cache.get("key", 2, () -> "value" + loads.incrementAndGet());
+
+        // Then
+        assertThat(first).isEqualTo("value1");
+        assertThat(changed).isEqualTo("value2");
+        assertThat(again).isSameAs(changed);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testDerive_reusesValueForSameSource() {
+        // Given
+        var cache = new BlockCache();
+        var derivations = new AtomicInteger();
+        Map<String, Object> source = new HashMap<>(Map.of("key", "value"));
+
+        // When
+        var first = cache.derive("key", source, data -> Map.copyOf(data) + "#" + derivations.incrementAndGet());
+        var second = cache.derive("key", source, data -> Map.copyOf(data) + "#" + derivations.incrementAndGet());
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(derivations).hasValue(1);
+    }
+
+    @Test
+    void testDerive_derivesAgainForDifferentSource() {
+        // Given
+        var cache = new BlockCache();
+        var derivations = new AtomicInteger();
+        Map<String, Object> source = new HashMap<>(Map.of("key", "value"));
+        Map<String, Object> equalSource = new HashMap<>(source);
+
+        // When
+        cache.derive("key", source, data -> derivations.incrementAndGet());
+        cache.derive("key", equalSource, data -> derivations.incrementAndGet());
+        var latest = cache.derive("key", equalSource, data -> derivations.incrementAndGet());
+
+        // Then
+        assertThat(latest).isEqualTo(2);
+        assertThat(derivations).hasValue(2);
+    }
+
+    @Test
+    void testDerive_doesNotStoreNull() {
+        // Given
+        var cache = new BlockCache();
+        var source = new Object();
+
+        // When
+        var first = cache.derive("key", source, data -> null);
+        var second = cache.derive("key", source, data -> "value");
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isEqualTo("value");
+    }
+}
@@ -0,0 +1,128 @@
+package com.davidrandoll.automation.engine.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FreezableListTest {
+
+    @Test
+    void testMutations_beforeFreeze() {
+        // Given
+        var list = new FreezableList<String>();
+
+        // When
+        list.add("b");
+        list.add(0, "a");
+        list.addFirst("first");
+        list.addLast("last");
+        list.addAll(List.of("x", "y"));
+        list.addAll(1, List.of("z"));
+        list.set(0, "start");
+        list.remove("x");
+        list.remove(list.size() - 1);
+        list.removeFirst();
+        list.removeLast();
+        list.replaceAll(String::toUpperCase);
+        list.sort(Comparator.naturalOrder());
+        list.removeIf("Z"::equals);
+        list.subList(0, 1).clear();
+
+        // Then
+        assertThat(list.isFrozen()).isFalse();
+        assertThat(list).containsExactly("B");
+    }
+
+    @Test
+    void testMutations_afterFreezeThrow() {
+        // Given
+        var list = frozenList();
+
+        // Then
+        Map<String, ThrowingConsumer<FreezableList<String>>> mutations = Map.ofEntries(
+                Map.entry("add", l -> l.add("c")),
+                Map.entry("addAtIndex", l -> l.add(0, "c")),
+                Map.entry("addFirst", l -> l.addFirst("c")),
+                Map.entry("addLast", l -> l.addLast("c")),
+                Map.entry("addAll", l -> l.addAll(List.of("c"))),
+                Map.entry("addAllAtIndex", l -> l.addAll(0, List.of("c"))),
+                Map.entry("set", l -> l.set(0, "c")),
+                Map.entry("removeAtIndex", l -> l.remove(0)),
+                Map.entry("removeObject", l -> l.remove("a")),
+                Map.entry("removeFirst", FreezableList::removeFirst),
+                Map.entry("removeLast", FreezableList::removeLast),
+                Map.entry("removeAll", l -> l.removeAll(List.of("a"))),
+                Map.entry("retainAll", l -> l.retainAll(List.of("a"))),
+                Map.entry("removeIf", l -> l.removeIf("a"::equals)),
+                Map.entry("replaceAll", l -> l.replaceAll(String::toUpperCase)),
+                Map.entry("sort", l -> l.sort(Comparator.reverseOrder())),
+                Map.entry("clear", FreezableList::clear));
+        mutations.forEach((name, mutation) -> assertThatThrownBy(() -> mutation.accept(list))
+                .as(name)
+                .isInstanceOf(UnsupportedOperationException.class));
+        assertThat(list).containsExactly("a", "b");
+    }
+
+    @Test
+    void testIterators_afterFreezeThrow() {
+        // Given
+        var list = frozenList();
+
+        // Then
+        assertThatThrownBy(() -> {
+            var iterator = list.iterator();
+            iterator.next();
+            iterator.remove();
+        }).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> {
+            var iterator = list.listIterator();
+            iterator.next();
+            iterator.set("c");
+        }).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.listIterator().add("c"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(list).containsExactly("a", "b");
+    }
+
+    @Test
+    void testSubList_afterFreezeIsUnmodifiable() {
+        // Given
+        var list = frozenList();
+
+        // When
+        var subList = list.subList(0, 1);
+
+        // Then
+        assertThat(subList).containsExactly("a");
+        assertThatThrownBy(() -> subList.set(0, "c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(subList::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> subList.add("c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(list).containsExactly("a", "b");
+    }
+
+    @Test
+    void testReads_afterFreeze() {
+        // Given
+        var list = frozenList();
+
+        // Then
+        assertThat(list.isFrozen()).isTrue();
+        assertThat(list.get(1)).isEqualTo("b");
+        assertThat(list.indexOf("b")).isEqualTo(1);
+        assertThat(list.stream().toList()).containsExactly("a", "b");
+    }
+
+    private FreezableList<String> frozenList() {
+        var list = new FreezableList<String>();
+        list.add("a");
+        list.add("b");
+        list.freeze();
+        return list;
+    }
+}
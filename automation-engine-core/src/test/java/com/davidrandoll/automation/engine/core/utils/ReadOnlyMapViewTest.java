@@ -0,0 +1,49 @@
+package com.davidrandoll.automation.engine.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadOnlyMapViewTest {
+
+    @Test
+    void testOf_returnsSameViewForSameData() {
+        // Given
+        var readOnlyData = new ReadOnlyMapView();
+        Map<String, Object> data = new HashMap<>(Map.of("key", "value"));
+
+        // When
+        var first = readOnlyData.of(data);
+        var second = readOnlyData.of(data);
+
+        // Then
+        assertThat(second).isSameAs(first).containsEntry("key", "value");
+        assertThatThrownBy(() -> first.put("other", "value")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testOf_returnsNewViewWhenDataChanges() {
+        // Given
+        var readOnlyData = new ReadOnlyMapView();
+        var first = readOnlyData.of(new HashMap<>(Map.of("key", "first")));
+
+        // When
+        var second = readOnlyData.of(new HashMap<>(Map.of("key", "second")));
+
+        // Then
+        assertThat(second).isNotSameAs(first).containsEntry("key", "second");
+    }
+
+    @Test
+    void testOf_withNullData() {
+        // When
+        var result = new ReadOnlyMapView().of(null);
+
+        // Then
+        assertThat(result).isNull();
+    }
+}
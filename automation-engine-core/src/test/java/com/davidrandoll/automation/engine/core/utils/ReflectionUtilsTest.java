@@ -92,4 +92,36 @@ class ReflectionUtilsTest {
         // Then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void testBuildMapFromObject_withInheritedAndStaticFields() {
+        // When
+        Map<String, Object> first = ReflectionUtils.buildMapFromObject(new Child("parent", "child"));
+        Map<String, Object> second = ReflectionUtils.buildMapFromObject(new Child("other", "value"));
+
+        // Then
+        assertThat(first).containsEntry("parentField", "parent")
+                .containsEntry("childField", "child")
+                .containsEntry("CONSTANT", "constant");
+        assertThat(second).containsEntry("parentField", "other")
+                .containsEntry("childField", "value");
+    }
+
+    static class Parent {
+        private final String parentField;
+
+        Parent(String parentField) {
+            this.parentField = parentField;
+        }
+    }
+
+    static class Child extends Parent {
+        private static final String CONSTANT = "constant";
+        private final String childField;
+
+        Child(String parentField, String childField) {
+            super(parentField);
+            this.childField = childField;
+        }
+    }
 }
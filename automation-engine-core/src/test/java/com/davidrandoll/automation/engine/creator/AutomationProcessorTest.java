@@ -0,0 +1,242 @@
+package com.davidrandoll.automation.engine.creator;
+
+import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.creator.actions.ActionBuilder;
+import com.davidrandoll.automation.engine.creator.actions.ActionDefinition;
+import com.davidrandoll.automation.engine.creator.conditions.ConditionBuilder;
+import com.davidrandoll.automation.engine.creator.conditions.ConditionDefinition;
+import com.davidrandoll.automation.engine.creator.result.ResultBuilder;
+import com.davidrandoll.automation.engine.creator.result.ResultDefinition;
+import com.davidrandoll.automation.engine.creator.triggers.TriggerBuilder;
+import com.davidrandoll.automation.engine.creator.triggers.TriggerDefinition;
+import com.davidrandoll.automation.engine.creator.variables.VariableBuilder;
+import com.davidrandoll.automation.engine.creator.variables.VariableDefinition;
+import com.davidrandoll.automation.engine.test.TestEvent;
+import com.davidrandoll.automation.engine.test.mocks.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutomationProcessorTest {
+    private AutomationProcessor processor;
+    private SimpleAction action;
+    private AtomicInteger actionLookups;
+    private AtomicInteger conditionLookups;
+    private AtomicInteger triggerLookups;
+    private AtomicInteger variableLookups;
+    private AtomicInteger resultLookups;
+    private EventContext eventContext;
+
+    @BeforeEach
+    void setUp() {
+        action = new SimpleAction("doNothing");
+        actionLookups = new AtomicInteger();
+        conditionLookups = new AtomicInteger();
+        triggerLookups = new AtomicInteger();
+        variableLookups = new AtomicInteger();
+        resultLookups = new AtomicInteger();
+        var condition = new SimpleCondition("alwaysTrue", true);
+        var trigger = new SimpleTrigger("alwaysTrue", true);
+        var variable = new SimpleVariable("basic", "value");
+        var result = new SimpleResult("basic");
+
+        processor = new AutomationProcessor(
+                new ActionBuilder(name -> {
+                    actionLookups.incrementAndGet();
+                    return action;
+                }, List.of()),
+                new ConditionBuilder(name -> {
+                    conditionLookups.incrementAndGet();
+                    return condition;
+                }, List.of()),
+                new TriggerBuilder(name -> {
+                    triggerLookups.incrementAndGet();
+                    return trigger;
+                }, List.of()),
+                new VariableBuilder(name -> {
+                    variableLookups.incrementAndGet();
+                    return variable;
+                }, List.of()),
+                new ResultBuilder(name -> {
+                    resultLookups.incrementAndGet();
+                    return result;
+                }, List.of()));
+        eventContext = new EventContext(TestEvent.builder().build());
+    }
+
+    @Test
+    void testExecuteActions_resolvesSameDefinitionsOnce() {
+        // Given
+        var actions = List.of(ActionDefinition.builder().action("doNothing").build());
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            processor.executeActions(eventContext, actions);
+        }
+
+        // Then
+        assertThat(action.getExecutionCount()).isEqualTo(100);
+        assertThat(actionLookups).hasValue(1);
+    }
+
+    @Test
+    void testExecuteActions_reusesBlocksAcrossListsOfSameDefinitions() {
+        // Given
+        var first = List.of(ActionDefinition.builder().action("doNothing").build());
+        var second = new ArrayList<>(first);
+
+        // When
+        processor.executeActions(eventContext, first);
+        processor.executeActions(eventContext, second);
+
+        // Then
+        assertThat(action.getExecutionCount()).isEqualTo(2);
+        assertThat(actionLookups).hasValue(1);
+    }
+
+    @Test
+    void testExecuteActions_resolvesEqualButDistinctDefinitionsSeparately() {
+        // Given
+        var first = List.of(ActionDefinition.builder().action("doNothing").build());
+        var second = List.of(ActionDefinition.builder().action("doNothing").build());
+
+        // When
+        processor.executeActions(eventContext, first);
+        processor.executeActions(eventContext, second);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(action.getExecutionCount()).isEqualTo(2);
+        assertThat(actionLookups).hasValue(2);
+    }
+
+    @Test
+    void testExecuteActions_rebuildsDefinitionChangedAfterBuild() {
+        // Given
+        var definition = ActionDefinition.builder().action("doNothing").params(new HashMap<>()).build();
+        var actions = List.of(definition);
+        processor.executeActions(eventContext, actions);
+
+        // When
+        definition.setDescription("changed");
+        processor.executeActions(eventContext, actions);
+        definition.getParams().put("key", "value");
+        processor.executeActions(eventContext, actions);
+        processor.executeActions(eventContext, actions);
+
+        // Then
+        assertThat(action.getExecutionCount()).isEqualTo(4);
+        assertThat(actionLookups).hasValue(3);
+    }
+
+    @Test
+    void testExecuteActionsAsync_resolvesSameDefinitionsOnce() {
+        // Given
+        var actions = List.of(ActionDefinition.builder().action("doNothing").build());
+
+        // When
+        processor.executeActionsAsync(eventContext, actions);
+        processor.executeActionsAsync(eventContext, actions, Runnable::run);
+
+        // Then
+        assertThat(action.getExecutionCount()).isEqualTo(2);
+        assertThat(actionLookups).hasValue(1);
+    }
+
+    @Test
+    void testResolveActions_returnsSameBlocksForSameDefinitions() {
+        // Given
+        var actions = List.of(ActionDefinition.builder().action("doNothing").build());
+
+        // When
+        var first = processor.resolveActions(actions);
+        var second = processor.resolveActions(actions);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.get(0)).isSameAs(first.get(0));
+    }
+
+    @Test
+    void testAllConditionsSatisfied_resolvesSameDefinitionsOnce() {
+        // Given
+        var conditions = List.of(ConditionDefinition.builder().condition("alwaysTrue").build());
+
+        // When
+        boolean all = processor.allConditionsSatisfied(eventContext, conditions);
+        boolean any = processor.anyConditionSatisfied(eventContext, conditions);
+        boolean none = processor.noneConditionSatisfied(eventContext, conditions);
+
+        // Then
+        assertThat(all).isTrue();
+        assertThat(any).isTrue();
+        assertThat(none).isFalse();
+        assertThat(conditionLookups).hasValue(1);
+    }
+
+    @Test
+    void testTriggersTriggered_resolvesSameDefinitionsOnce() {
+        // Given
+        var triggers = List.of(TriggerDefinition.builder().trigger("alwaysTrue").build());
+
+        // When
+        boolean any = processor.anyTriggersTriggered(eventContext, triggers);
+        boolean all = processor.allTriggersTriggered(eventContext, triggers);
+        boolean none = processor.noneTriggersTriggered(eventContext, triggers);
+        var resolved = processor.resolveTriggers(triggers, trigger -> false);
+
+        // Then
+        assertThat(any).isTrue();
+        assertThat(all).isTrue();
+        assertThat(none).isFalse();
+        assertThat(resolved.get(0).readsVariables()).isTrue();
+        assertThat(resolved.get(0).getDeclaredEventTypes()).isSameAs(DeclaredEventTypes.any());
+        assertThat(triggerLookups).hasValue(1);
+    }
+
+    @Test
+    void testResolveVariables_resolvesSameDefinitionsOnce() {
+        // Given
+        var variables = List.of(VariableDefinition.builder().variable("basic").build());
+
+        // When
+        processor.resolveVariables(eventContext, variables);
+        processor.resolveVariables(eventContext, variables);
+
+        // Then
+        assertThat(eventContext.getMetadata("basic")).isEqualTo("value");
+        assertThat(processor.resolveVariables(variables)).hasSize(1);
+        assertThat(variableLookups).hasValue(1);
+    }
+
+    @Test
+    void testResolveResult_resolvesSameDefinitionOnce() {
+        // Given
+        var result = ResultDefinition.builder().result("basic").build();
+
+        // When
+        var first = processor.resolveResult(result);
+        processor.resolveResult(eventContext, result);
+
+        // Then
+        assertThat(processor.resolveResult(result)).isSameAs(first);
+        assertThat(resultLookups).hasValue(1);
+    }
+
+    @Test
+    void testExecuteActions_withoutDefinitions() {
+        // When
+        processor.executeActions(eventContext, null);
+
+        // Then
+        assertThat(action.getExecutionCount()).isZero();
+        assertThat(actionLookups).hasValue(0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.davidrandoll.automation.engine.creator;
+
+import com.davidrandoll.automation.engine.core.Automation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledAutomationCacheTest {
+
+    @Test
+    void testGet_compilesOncePerDocument() {
+        // Given
+        var cache = new CompiledAutomationCache(10, Duration.ofMinutes(1));
+        var compilations = new AtomicInteger();
+
+        // When
+        Automation first = cache.get("yaml", "alias: test", () -> compile("test", compilations));
+        Automation second = cache.get("yaml", "alias: test", () -> compile("test", compilations));
+        Automation otherFormat = cache.get("json", "alias: test", () -> compile("test", compilations));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(otherFormat).isNotSameAs(first);
+        assertThat(compilations).hasValue(2);
+        assertThat(cache.getStats()).isEqualTo(new CompiledAutomationCache.Stats(1, 2, 0, 2));
+    }
+
+    @Test
+    void testGet_evictsLeastRecentlyUsedWhenFull() {
+        // Given
+        var cache = new CompiledAutomationCache(2, Duration.ofMinutes(1));
+        var compilations = new AtomicInteger();
+        cache.get("yaml", "a", () -> compile("a", compilations));
+        cache.get("yaml", "b", () -> compile("b", compilations));
+        cache.get("yaml", "a", () -> compile("a", compilations));
+
+        // When
+        cache.get("yaml", "c", () -> compile("c", compilations));
+        cache.get("yaml", "a", () -> compile("a", compilations));
+        cache.get("yaml", "b", () -> compile("b", compilations));
+
+        // Then
+        assertThat(compilations).hasValue(4);
+        assertThat(cache.getStats().size()).isEqualTo(2);
+        assertThat(cache.getStats().evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void testGet_recompilesAfterTimeToLive() {
+        // Given
+        var clock = new MutableClock();
+        var cache = new CompiledAutomationCache(10, Duration.ofSeconds(30), clock);
+        var compilations = new AtomicInteger();
+        Automation first = cache.get("yaml", "a", () -> compile("a", compilations));
+
+        // When
+        clock.advance(Duration.ofSeconds(31));
+        Automation second = cache.get("yaml", "a", () -> compile("a", compilations));
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(compilations).hasValue(2);
+    }
+
+    @Test
+    void testGet_disabledCacheAlwaysCompiles() {
+        // Given
+        var cache = CompiledAutomationCache.disabled();
+        var compilations = new AtomicInteger();
+
+        // When
+        cache.get("yaml", "a", () -> compile("a", compilations));
+        cache.get("yaml", "a", () -> compile("a", compilations));
+
+        // Then
+        assertThat(compilations).hasValue(2);
+        assertThat(cache.getStats().size()).isZero();
+    }
+
+    private Automation compile(String alias, AtomicInteger compilations) {
+        compilations.incrementAndGet();
+        return new Automation(alias, null, null, null, null, null);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.davidrandoll.automation.engine.creator.variables;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VariableReferencesTest {
+
+    @Test
+    void testIsReferencedBy_templateMentioningBasicVariable() {
+        // Given
+        var references = VariableReferences.of(List.of(basicVariable("threshold")));
+
+        // Then
+        assertThat(references.isReferencedBy(Map.of("value", "{{ threshold }}"))).isTrue();
+        assertThat(references.isReferencedBy(Map.of("value", "{{ threshold.max }}"))).isTrue();
+        assertThat(references.isReferencedBy(Map.of("nested", List.of(Map.of("value", "{{ threshold }}"))))).isTrue();
+    }
+
+    @Test
+    void testIsReferencedBy_templateNotMentioningBasicVariable() {
+        // Given
+        var references = VariableReferences.of(List.of(basicVariable("threshold")));
+
+        // Then
+        assertThat(references.isReferencedBy(Map.of("value", "{{ event.threshold }}"))).isFalse();
+        assertThat(references.isReferencedBy(Map.of("value", "{{ thresholds }}"))).isFalse();
+        assertThat(references.isReferencedBy(Map.of("value", "threshold"))).isFalse();
+        assertThat(references.isReferencedBy(Map.of("value", 5))).isFalse();
+    }
+
+    @Test
+    void testIsReferencedBy_otherVariableTypeMatchesEveryTemplate() {
+        // Given
+        var references = VariableReferences.of(List.of(VariableDefinition.builder().variable("custom").build()));
+
+        // Then
+        assertThat(references.isReferencedBy(Map.of("value", "{{ anything }}"))).isTrue();
+        assertThat(references.isReferencedBy(Map.of("value", "plain text"))).isFalse();
+    }
+
+    @Test
+    void testIsReferencedBy_withoutVariables() {
+        // Given
+        var references = VariableReferences.of(null);
+
+        // Then
+        assertThat(references.isReferencedBy(Map.of("value", "{{ anything }}"))).isFalse();
+    }
+
+    private VariableDefinition basicVariable(String name) {
+        return VariableDefinition.builder().params(Map.of(name, 10)).build();
+    }
+}
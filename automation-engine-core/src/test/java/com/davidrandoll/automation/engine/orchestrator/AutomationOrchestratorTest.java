@@ -4,21 +4,32 @@ import com.davidrandoll.automation.engine.core.Automation;
 import com.davidrandoll.automation.engine.core.actions.BaseActionList;
 import com.davidrandoll.automation.engine.core.conditions.BaseConditionList;
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.events.publisher.AutomationEngineBatchProcessedEvent;
 import com.davidrandoll.automation.engine.core.events.publisher.AutomationEngineProcessedEvent;
 import com.davidrandoll.automation.engine.core.events.publisher.AutomationEngineRegisterEvent;
 import com.davidrandoll.automation.engine.core.events.publisher.AutomationEngineRemoveAllEvent;
 import com.davidrandoll.automation.engine.core.events.publisher.AutomationEngineRemoveEvent;
+import com.davidrandoll.automation.engine.core.events.publisher.IEventPublisher;
 import com.davidrandoll.automation.engine.core.result.AutomationResult;
 import com.davidrandoll.automation.engine.core.triggers.BaseTriggerList;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.variables.BaseVariableList;
+import com.davidrandoll.automation.engine.creator.events.JsonEvent;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.davidrandoll.automation.engine.test.TestEvent;
 import com.davidrandoll.automation.engine.test.mocks.MockEventPublisher;
 import com.davidrandoll.automation.engine.test.mocks.SimpleAction;
 import com.davidrandoll.automation.engine.test.mocks.SimpleCondition;
 import com.davidrandoll.automation.engine.test.mocks.SimpleTrigger;
+import com.davidrandoll.automation.engine.test.mocks.SimpleVariable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -322,6 +333,7 @@ class AutomationOrchestratorTest {
         Automation automation = createSimpleAutomation("test");
         TestEvent event = TestEvent.builder().eventType("TEST").build();
         EventContext eventContext = new EventContext(event);
+        orchestrator.setSkippedResultSampleRate(1);
         eventPublisher.clear();
 
         // When
@@ -331,8 +343,7 @@ class AutomationOrchestratorTest {
         List<AutomationEngineProcessedEvent> processedEvents = eventPublisher
                 .getEventsOfType(AutomationEngineProcessedEvent.class);
         assertThat(processedEvents).hasSize(1);
-        // Use alias comparison since Automation creates defensive copies
-        assertThat(processedEvents.get(0).getAutomation().getAlias()).isEqualTo(automation.getAlias());
+        assertThat(processedEvents.get(0).getAutomation()).isSameAs(automation);
         assertThat(processedEvents.get(0).getEventContext()).isEqualTo(eventContext);
         assertThat(processedEvents.get(0).getResult()).isEqualTo(result);
     }
@@ -416,7 +427,7 @@ class AutomationOrchestratorTest {
         orchestrator.handleEvent(eventContext, (a, e) -> {
             executionCount.incrementAndGet();
             assertThat(a).isEqualTo(automation);
-            assertThat(e).isEqualTo(eventContext);
+            assertThat(e.getEvent()).isSameAs(eventContext.getEvent());
         });
 
         // Then
@@ -440,7 +451,403 @@ class AutomationOrchestratorTest {
         assertThat(executionCount.get()).isEqualTo(3);
     }
 
+    @Test
+    void testHandleEvent_routesOnlyToAutomationsDeclaringEventClass() {
+        // Given
+        SimpleTrigger matchingTrigger = new SimpleTrigger("matching", true);
+        matchingTrigger.setDeclaredEventTypes(DeclaredEventTypes.of(TestEvent.class));
+        SimpleTrigger otherTrigger = new SimpleTrigger("other", true);
+        otherTrigger.setDeclaredEventTypes(DeclaredEventTypes.of(JsonEvent.class));
+        orchestrator.registerAutomation(createAutomation("matching", matchingTrigger));
+        orchestrator.registerAutomation(createAutomation("other", otherTrigger));
+
+        // When
+        orchestrator.handleEvent(TestEvent.builder().eventType("TEST").build());
+
+        // Then
+        assertThat(matchingTrigger.getCheckCount()).isEqualTo(1);
+        assertThat(otherTrigger.getCheckCount()).isZero();
+    }
+
+    @Test
+    void testHandleEvent_routesByEventTypeNameIgnoringCase() {
+        // Given
+        SimpleTrigger namedTrigger = new SimpleTrigger("named", true);
+        namedTrigger.setDeclaredEventTypes(DeclaredEventTypes.ofNames("com.example.OrderCreated"));
+        orchestrator.registerAutomation(createAutomation("named", namedTrigger));
+        var node = JsonNodeFactory.instance.objectNode().put(JsonEvent.EVENT_TYPE, "com.example.ordercreated");
+        var otherNode = JsonNodeFactory.instance.objectNode().put(JsonEvent.EVENT_TYPE, "com.example.OrderDeleted");
+
+        // When
+        orchestrator.handleEvent(new JsonEvent(node));
+        orchestrator.handleEvent(new JsonEvent(otherNode));
+
+        // Then
+        assertThat(namedTrigger.getCheckCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testHandleEvent_unindexedTriggerReceivesEveryEvent() {
+        // Given
+        SimpleTrigger indexedTrigger = new SimpleTrigger("indexed", false);
+        indexedTrigger.setDeclaredEventTypes(DeclaredEventTypes.of(JsonEvent.class));
+        SimpleTrigger unindexedTrigger = new SimpleTrigger("unindexed", false);
+        orchestrator.registerAutomation(createAutomation("mixed", indexedTrigger, unindexedTrigger));
+
+        // When
+        orchestrator.handleEvent(TestEvent.builder().eventType("TEST").build());
+
+        // Then
+        assertThat(unindexedTrigger.getCheckCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testHandleEvent_routedAutomationsKeepRegistrationOrder() {
+        // Given
+        SimpleTrigger byClass = new SimpleTrigger("byClass", true);
+        byClass.setDeclaredEventTypes(DeclaredEventTypes.of(TestEvent.class));
+        SimpleTrigger byName = new SimpleTrigger("byName", true);
+        byName.setDeclaredEventTypes(DeclaredEventTypes.ofNames("TEST"));
+        Automation first = createAutomation("first", byName);
+        Automation second = createAutomation("second", new SimpleTrigger("any", true));
+        Automation third = createAutomation("third", byClass);
+        orchestrator.registerAutomation(first);
+        orchestrator.registerAutomation(second);
+        orchestrator.registerAutomation(third);
+        List<Automation> executed = new ArrayList<>();
+
+        // When
+        orchestrator.handleEvent(new EventContext(TestEvent.builder().eventType("TEST").build()),
+                (a, e) -> executed.add(a));
+
+        // Then
+        assertThat(executed).containsExactly(first, second, third);
+    }
+
+    @Test
+    void testHandleEvent_removedAutomationIsNoLongerRouted() {
+        // Given
+        SimpleTrigger trigger = new SimpleTrigger("trigger", true);
+        trigger.setDeclaredEventTypes(DeclaredEventTypes.of(TestEvent.class));
+        Automation automation = createAutomation("removed", trigger);
+        orchestrator.registerAutomation(automation);
+        orchestrator.removeAutomation(automation);
+
+        // When
+        orchestrator.handleEvent(TestEvent.builder().eventType("TEST").build());
+
+        // Then
+        assertThat(trigger.getCheckCount()).isZero();
+    }
+
+    @Test
+    void testExecuteAutomation_triggerFirstOption_skipsVariablesWhenNotTriggered() {
+        // Given
+        SimpleVariable variable = new SimpleVariable("var1", "value1");
+        SimpleTrigger trigger = new SimpleTrigger("trigger", false);
+        trigger.setReadsVariables(false);
+        Automation automation = new Automation("trigger-first", Map.of("triggerFirst", true),
+                BaseVariableList.of(variable), BaseTriggerList.of(trigger), null, null, null);
+
+        // When
+        AutomationResult result = orchestrator.executeAutomation(automation, EventContext.of(new TestEvent()));
+
+        // Then
+        assertThat(result.isExecuted()).isFalse();
+        assertThat(variable.getResolveCount()).isZero();
+    }
+
+    @Test
+    void testExecuteAutomation_triggerFirstDefault_canBeOverriddenByOption() {
+        // Given
+        orchestrator.setTriggerFirst(true);
+        SimpleVariable variable = new SimpleVariable("var1", "value1");
+        SimpleTrigger trigger = new SimpleTrigger("trigger", false);
+        trigger.setReadsVariables(false);
+        Automation automation = new Automation("eager", Map.of("triggerFirst", "false"),
+                BaseVariableList.of(variable), BaseTriggerList.of(trigger), null, null, null);
+
+        // When
+        orchestrator.executeAutomation(automation, EventContext.of(new TestEvent()));
+
+        // Then
+        assertThat(variable.getResolveCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testHandleEvent_forksContextPerAutomation() {
+        // Given
+        orchestrator.registerAutomation(createSimpleAutomation("automation-1"));
+        orchestrator.registerAutomation(createSimpleAutomation("automation-2"));
+        EventContext eventContext = new EventContext(TestEvent.builder().eventType("TEST").build());
+        eventContext.addMetadata("shared", "value");
+        List<String> seenKeys = new ArrayList<>();
+
+        // When
+        orchestrator.handleEvent(eventContext, (a, e) -> {
+            seenKeys.addAll(e.getMetadata().keySet());
+            e.addMetadata(a.getAlias(), true);
+        });
+
+        // Then
+        assertThat(seenKeys).containsExactly("shared", "shared");
+        assertThat(eventContext.getMetadata()).containsOnlyKeys("shared");
+    }
+
+    @Test
+    void testHandleEvent_dispatchExecutor_runsAutomationsOnIsolatedContexts() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        orchestrator.setDispatchExecutor(executor);
+        orchestrator.registerAutomation(createSimpleAutomation("automation-1"));
+        orchestrator.registerAutomation(createSimpleAutomation("automation-2"));
+        orchestrator.registerAutomation(createSimpleAutomation("automation-3"));
+        EventContext eventContext = new EventContext(TestEvent.builder().eventType("TEST").build());
+        eventContext.addMetadata("shared", "value");
+        List<EventContext> contexts = new CopyOnWriteArrayList<>();
+
+        // When
+        orchestrator.handleEvent(eventContext, (a, e) -> {
+            assertThat(e.getMetadata()).containsEntry("shared", "value");
+            e.addMetadata(a.getAlias(), true);
+            contexts.add(e);
+        });
+        executor.shutdown();
+
+        // Then
+        assertThat(contexts).hasSize(3).doesNotContain(eventContext);
+        assertThat(contexts).allSatisfy(context -> assertThat(context.getMetadata()).hasSize(2));
+        assertThat(eventContext.getMetadata()).containsOnlyKeys("shared");
+    }
+
+    @Test
+    void testHandleEvent_dispatchExecutor_stopsWaitingAfterTimeout() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        orchestrator.setDispatchExecutor(executor);
+        orchestrator.setDispatchTimeout(Duration.ofMillis(100));
+        orchestrator.registerAutomation(createSimpleAutomation("slow"));
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        long start = System.nanoTime();
+        orchestrator.handleEvent(new EventContext(TestEvent.builder().eventType("TEST").build()), (a, e) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        executor.shutdown();
+
+        // Then
+        assertThat(elapsed).isLessThan(5000);
+        assertThat(eventPublisher.getEventsOfType(TestEvent.class)).hasSize(1);
+    }
+
+    @Test
+    void testHandleEvent_dispatchExecutor_interruptsAutomationsAfterTimeout() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        orchestrator.setDispatchExecutor(executor);
+        orchestrator.setDispatchTimeout(Duration.ofMillis(100));
+        orchestrator.registerAutomation(createSimpleAutomation("slow"));
+        orchestrator.registerAutomation(createSimpleAutomation("queued"));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        // When
+        orchestrator.handleEvent(new EventContext(TestEvent.builder().eventType("TEST").build()), (a, e) -> {
+            ran.add(a.getAlias());
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+        });
+        executor.shutdown();
+
+        // Then
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).containsExactly("slow");
+    }
+
+    @Test
+    void testHandleEvent_dispatchExecutor_rethrowsAutomationFailure() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        orchestrator.setDispatchExecutor(executor);
+        orchestrator.registerAutomation(createSimpleAutomation("failing"));
+        EventContext eventContext = new EventContext(TestEvent.builder().eventType("TEST").build());
+
+        // When / Then
+        assertThatThrownBy(() -> orchestrator.handleEvent(eventContext, (a, e) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        executor.shutdown();
+    }
+
+    @Test
+    void testExecuteAutomation_doesNotPublishSkippedResultsByDefault() {
+        // Given
+        EventContext eventContext = new EventContext(TestEvent.builder().eventType("TEST").build());
+        eventPublisher.clear();
+
+        // When
+        AutomationResult skipped = orchestrator.executeAutomation(createSimpleAutomation("skipped"), eventContext);
+        AutomationResult executed = orchestrator.executeAutomation(createAutomation("executed", new SimpleTrigger("trigger", true)), eventContext);
+
+        // Then
+        assertThat(skipped.isExecuted()).isFalse();
+        assertThat(executed.isExecuted()).isTrue();
+        assertThat(eventPublisher.getEventsOfType(AutomationEngineProcessedEvent.class))
+                .extracting(AutomationEngineProcessedEvent::getResult)
+                .containsExactly(executed);
+    }
+
+    @Test
+    void testHandleEvent_aggregatePublication_publishesOneBatch() {
+        // Given
+        orchestrator.setProcessedEventPublication(ProcessedEventPublication.AGGREGATE);
+        orchestrator.registerAutomation(createAutomation("first", new SimpleTrigger("trigger", true)));
+        orchestrator.registerAutomation(createAutomation("second", new SimpleTrigger("trigger", true)));
+        orchestrator.registerAutomation(createSimpleAutomation("skipped"));
+        eventPublisher.clear();
+
+        // When
+        orchestrator.handleEvent(TestEvent.builder().eventType("TEST").build());
+
+        // Then
+        assertThat(eventPublisher.getEventsOfType(AutomationEngineProcessedEvent.class)).isEmpty();
+        var batches = eventPublisher.getEventsOfType(AutomationEngineBatchProcessedEvent.class);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).getAutomationCount()).isEqualTo(3);
+        assertThat(batches.get(0).getResults())
+                .extracting(result -> result.getAutomation().getAlias())
+                .containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    void testHandleEvent_aggregatePublication_publishesLateResultsOnTheirOwn() {
+        // Given
+        orchestrator.setProcessedEventPublication(ProcessedEventPublication.AGGREGATE);
+        var automation = createAutomation("late", new SimpleTrigger("trigger", true));
+        orchestrator.registerAutomation(automation);
+        List<EventContext> forks = new CopyOnWriteArrayList<>();
+        orchestrator.handleEvent(new EventContext(TestEvent.builder().eventType("TEST").build()), (a, e) -> forks.add(e));
+        eventPublisher.clear();
+
+        // When
+        AutomationResult late = orchestrator.executeAutomation(automation, forks.get(0));
+
+        // Then
+        assertThat(forks.get(0).getResultCollector()).isNotNull();
+        assertThat(eventPublisher.getEventsOfType(AutomationEngineProcessedEvent.class))
+                .extracting(AutomationEngineProcessedEvent::getResult)
+                .containsExactly(late);
+    }
+
+    @Test
+    void testHandleEvent_nonePublication_publishesNoResults() {
+        // Given
+        orchestrator.setProcessedEventPublication(ProcessedEventPublication.NONE);
+        orchestrator.registerAutomation(createAutomation("first", new SimpleTrigger("trigger", true)));
+        eventPublisher.clear();
+
+        // When
+        orchestrator.handleEvent(TestEvent.builder().eventType("TEST").build());
+
+        // Then
+        assertThat(eventPublisher.getEventsOfType(AutomationEngineProcessedEvent.class)).isEmpty();
+        assertThat(eventPublisher.getEventsOfType(AutomationEngineBatchProcessedEvent.class)).isEmpty();
+        assertThat(eventPublisher.getEventsOfType(TestEvent.class)).hasSize(1);
+    }
+
+    @Test
+    void testHandleEvent_skipsEventsWithoutListeners() {
+        // Given
+        List<Object> published = new ArrayList<>();
+        IEventPublisher publisher = new IEventPublisher() {
+            @Override
+            public void publishEvent(Object event) {
+                published.add(event);
+            }
+
+            @Override
+            public boolean hasListeners(Class<?> eventType) {
+                return eventType == TestEvent.class;
+            }
+        };
+        var quietOrchestrator = new AutomationOrchestrator(publisher);
+        quietOrchestrator.registerAutomation(createAutomation("first", new SimpleTrigger("trigger", true)));
+        published.clear();
+
+        // When
+        quietOrchestrator.handleEvent(TestEvent.builder().eventType("TEST").build());
+
+        // Then
+        assertThat(published).singleElement().isInstanceOf(TestEvent.class);
+    }
+
+    @Test
+    void testHandleEvent_virtualThreads_doesNotWaitForBlockingAutomation() throws InterruptedException {
+        // Given
+        orchestrator.setVirtualThreads(true);
+        orchestrator.registerAutomation(createSimpleAutomation("blocking"));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        List<Boolean> virtual = new CopyOnWriteArrayList<>();
+        EventContext eventContext = new EventContext(TestEvent.builder().eventType("TEST").build());
+
+        // When
+        orchestrator.handleEvent(eventContext, (automation, context) -> {
+            virtual.add(Thread.currentThread().isVirtual());
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.countDown();
+        });
+
+        // Then
+        assertThat(finished.getCount()).isEqualTo(1);
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).containsExactly(true);
+    }
+
+    @Test
+    void testHandleEvent_virtualThreadsOption_overridesDefault() {
+        // Given
+        orchestrator.setVirtualThreads(true);
+        Automation automation = new Automation("inline", Map.of("virtualThreads", false),
+                null, BaseTriggerList.of(new SimpleTrigger("trigger", true)), null, null, null);
+        orchestrator.registerAutomation(automation);
+        List<Boolean> virtual = new ArrayList<>();
+
+        // When
+        orchestrator.handleEvent(new EventContext(TestEvent.builder().eventType("TEST").build()),
+                (a, context) -> virtual.add(Thread.currentThread().isVirtual()));
+
+        // Then
+        assertThat(virtual).containsExactly(false);
+    }
+
     // Helper methods
+    private Automation createAutomation(String alias, SimpleTrigger... triggers) {
+        return new Automation(
+                alias,
+                null,
+                BaseTriggerList.of(triggers),
+                BaseConditionList.of(new SimpleCondition("condition", true)),
+                BaseActionList.of(new SimpleAction("action")),
+                null);
+    }
+
     private Automation createSimpleAutomation(String alias) {
         return new Automation(
                 alias,
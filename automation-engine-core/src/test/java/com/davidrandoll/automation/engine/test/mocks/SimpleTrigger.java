@@ -1,6 +1,7 @@
 package com.davidrandoll.automation.engine.test.mocks;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
 import com.davidrandoll.automation.engine.core.triggers.IBaseTrigger;
 import com.davidrandoll.automation.engine.core.triggers.ITrigger;
 import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
@@ -20,6 +21,8 @@ public class SimpleTrigger implements IBaseTrigger, ITrigger {
     private final String name;
     private boolean activated = true;
     private int checkCount = 0;
+    private DeclaredEventTypes declaredEventTypes = DeclaredEventTypes.any();
+    private boolean readsVariables = true;
     private final List<EventContext> checkedContexts = new ArrayList<>();
 
     public SimpleTrigger(String name) {
@@ -44,6 +47,26 @@ public class SimpleTrigger implements IBaseTrigger, ITrigger {
         return activated;
     }
 
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes() {
+        return declaredEventTypes;
+    }
+
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return declaredEventTypes;
+    }
+
+    @Override
+    public boolean readsVariables() {
+        return readsVariables;
+    }
+
+    @Override
+    public boolean readsVariables(TriggerContext triggerContext) {
+        return readsVariables;
+    }
+
     @Override
     public boolean isTriggered(EventContext context, TriggerContext triggerContext) {
         return isTriggered(context);
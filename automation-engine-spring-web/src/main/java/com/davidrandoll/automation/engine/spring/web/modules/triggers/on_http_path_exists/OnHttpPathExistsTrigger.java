@@ -1,6 +1,8 @@
 package com.davidrandoll.automation.engine.spring.web.modules.triggers.on_http_path_exists;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import com.davidrandoll.automation.engine.spring.spi.PluggableTrigger;
 import com.davidrandoll.automation.engine.spring.web.events.AEHttpRequestEvent;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +10,11 @@ import org.springframework.util.ObjectUtils;
 
 @RequiredArgsConstructor
 public class OnHttpPathExistsTrigger extends PluggableTrigger<OnHttpPathExistsTriggerContext> {
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return DeclaredEventTypes.of(AEHttpRequestEvent.class);
+    }
+
     @Override
     public boolean isTriggered(EventContext ec, OnHttpPathExistsTriggerContext tc) {
         if (!(ec.getEvent() instanceof AEHttpRequestEvent event)) return false;
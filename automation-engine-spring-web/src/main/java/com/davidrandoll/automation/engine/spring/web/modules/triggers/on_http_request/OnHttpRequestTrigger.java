@@ -1,6 +1,8 @@
 package com.davidrandoll.automation.engine.spring.web.modules.triggers.on_http_request;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import com.davidrandoll.automation.engine.spring.spi.PluggableTrigger;
 import com.davidrandoll.automation.engine.spring.web.events.AEHttpRequestEvent;
 import com.davidrandoll.automation.engine.spring.web.utils.HttpServletUtils;
@@ -12,6 +14,11 @@ import lombok.RequiredArgsConstructor;
 public class OnHttpRequestTrigger extends PluggableTrigger<OnHttpRequestTriggerContext> {
     private final ObjectMapper objectMapper;
 
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return DeclaredEventTypes.of(AEHttpRequestEvent.class);
+    }
+
     @Override
     public boolean isTriggered(EventContext ec, OnHttpRequestTriggerContext tc) {
         if (!(ec.getEvent() instanceof AEHttpRequestEvent event)) return false;
@@ -1,6 +1,8 @@
 package com.davidrandoll.automation.engine.spring.web.modules.triggers.on_http_response;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import com.davidrandoll.automation.engine.spring.spi.PluggableTrigger;
 import com.davidrandoll.automation.engine.spring.web.events.AEHttpResponseEvent;
 import com.davidrandoll.automation.engine.spring.web.utils.HttpServletUtils;
@@ -12,6 +14,11 @@ import lombok.RequiredArgsConstructor;
 public class OnHttpResponseTrigger extends PluggableTrigger<OnHttpResponseTriggerContext> {
     private final ObjectMapper objectMapper;
 
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return DeclaredEventTypes.of(AEHttpResponseEvent.class);
+    }
+
     @Override
     public boolean isTriggered(EventContext ec, OnHttpResponseTriggerContext tc) {
         if (!(ec.getEvent() instanceof AEHttpResponseEvent event)) return false;
@@ -1,6 +1,8 @@
 package com.davidrandoll.automation.engine.spring.web.modules.triggers.on_http_response;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import com.davidrandoll.automation.engine.spring.spi.PluggableTrigger;
 import com.davidrandoll.automation.engine.spring.web.events.AEHttpResponseEvent;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,11 @@ import lombok.RequiredArgsConstructor;
 public class OnHttpServerErrorResponseTrigger extends PluggableTrigger<OnHttpResponseTriggerContext> {
     private final OnHttpResponseTrigger onHttpResponseTrigger;
 
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return DeclaredEventTypes.of(AEHttpResponseEvent.class);
+    }
+
     @Override
     public boolean isTriggered(EventContext ec, OnHttpResponseTriggerContext tc) {
         if (!(ec.getEvent() instanceof AEHttpResponseEvent event)) return false;
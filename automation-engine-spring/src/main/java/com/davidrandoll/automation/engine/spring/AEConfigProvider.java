@@ -1,5 +1,7 @@
 package com.davidrandoll.automation.engine.spring;
 
+import com.davidrandoll.automation.engine.orchestrator.ProcessedEventPublication;
+import com.davidrandoll.automation.engine.spring.modules.events.EventPublisherExecutor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,4 +26,51 @@ public class AEConfigProvider {
     private ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
 
     private Duration defaultTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Check triggers before resolving variables, for automations that do not set the {@code triggerFirst} option
+     */
+    private boolean triggerFirst;
+
+    /**
+     * Dispatch each event to its automations concurrently, on the executor or on virtual threads if none is set
+     */
+    private boolean parallelDispatch;
+    @Builder.Default
+    private Duration dispatchTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Run automations that do not set the {@code virtualThreads} option on their own virtual thread, without
+     * blocking the thread that published the event. Parallel actions also default to virtual threads.
+     */
+    private boolean virtualThreads;
+
+    /**
+     * How the results of the automations are published, and the fraction of skipped results that are published
+     */
+    @Builder.Default
+    private ProcessedEventPublication processedEventPublication = ProcessedEventPublication.PER_AUTOMATION;
+    private double skippedResultSampleRate;
+
+    /**
+     * The executor engine events are published on. A non-positive thread count or queue capacity uses the default.
+     * The queue is unbounded by default so no event is lost; with a bounded queue, the caller blocks once it is full
+     * unless another overflow policy is chosen. Dropping events, which an action may be waiting for, is opt-in.
+     * With virtual threads, every event is published on its own virtual thread and the other settings do not apply.
+     */
+    @Builder.Default
+    private int eventPublisherThreads = Runtime.getRuntime().availableProcessors();
+    @Builder.Default
+    private int eventPublisherQueueCapacity = EventPublisherExecutor.DEFAULT_QUEUE_CAPACITY;
+    @Builder.Default
+    private EventPublisherExecutor.OverflowPolicy eventPublisherOverflowPolicy = EventPublisherExecutor.OverflowPolicy.BLOCK;
+    private boolean eventPublisherVirtualThreads;
+
+    /**
+     * Automations compiled by AutomationEngine#executeAutomationWithYaml/Json are cached, up to this many documents
+     */
+    @Builder.Default
+    private int automationCacheSize = 256;
+    @Builder.Default
+    private Duration automationCacheTtl = Duration.ofMinutes(10);
 }
\ No newline at end of file
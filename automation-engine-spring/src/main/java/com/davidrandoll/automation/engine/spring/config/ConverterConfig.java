@@ -1,5 +1,6 @@
 package com.davidrandoll.automation.engine.spring.config;
 
+import com.davidrandoll.automation.engine.spring.converter.CachedTypeConverter;
 import com.davidrandoll.automation.engine.spring.converter.JsonConverter;
 import com.davidrandoll.automation.engine.spring.converter.TypeConverter;
 import com.davidrandoll.automation.engine.spring.converter.YamlConverter;
@@ -24,7 +25,7 @@ public class ConverterConfig {
     @Bean
     @ConditionalOnMissingBean(value = ITypeConverter.class, ignored = TypeConverter.class)
     public TypeConverter typeConverter(ObjectMapper mapper) {
-        return new TypeConverter(mapper);
+        return new CachedTypeConverter(mapper);
     }
 
     @Bean
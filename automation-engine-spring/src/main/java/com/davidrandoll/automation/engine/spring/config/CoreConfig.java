@@ -4,6 +4,7 @@ import com.davidrandoll.automation.engine.AutomationEngine;
 import com.davidrandoll.automation.engine.core.events.publisher.IEventPublisher;
 import com.davidrandoll.automation.engine.creator.AutomationFactory;
 import com.davidrandoll.automation.engine.creator.AutomationProcessor;
+import com.davidrandoll.automation.engine.creator.CompiledAutomationCache;
 import com.davidrandoll.automation.engine.creator.actions.ActionBuilder;
 import com.davidrandoll.automation.engine.creator.conditions.ConditionBuilder;
 import com.davidrandoll.automation.engine.creator.events.EventFactory;
@@ -15,11 +16,15 @@ import com.davidrandoll.automation.engine.creator.variables.VariableBuilder;
 import com.davidrandoll.automation.engine.orchestrator.AutomationOrchestrator;
 import com.davidrandoll.automation.engine.orchestrator.IAEOrchestrator;
 import com.davidrandoll.automation.engine.orchestrator.interceptors.*;
+import com.davidrandoll.automation.engine.spring.AEConfigProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class CoreConfig {
@@ -40,8 +45,22 @@ public class CoreConfig {
     @ConditionalOnMissingBean
     public IAEOrchestrator automationOrchestrator(IEventPublisher publisher,
                                                   List<IAutomationExecutionInterceptor> executionInterceptors,
-                                                  List<IAutomationHandleEventInterceptor> handleEventInterceptors) {
+                                                  List<IAutomationHandleEventInterceptor> handleEventInterceptors,
+                                                  @Autowired(required = false) AEConfigProvider provider) {
         var orchestrator = new AutomationOrchestrator(publisher);
+        if (provider != null) {
+            orchestrator.setTriggerFirst(provider.isTriggerFirst());
+            orchestrator.setVirtualThreads(provider.isVirtualThreads());
+            orchestrator.setSkippedResultSampleRate(provider.getSkippedResultSampleRate());
+            if (provider.getProcessedEventPublication() != null)
+                orchestrator.setProcessedEventPublication(provider.getProcessedEventPublication());
+            if (provider.isParallelDispatch()) {
+                orchestrator.setDispatchExecutor(Optional.ofNullable(provider.getExecutor())
+                        .orElseGet(Executors::newVirtualThreadPerTaskExecutor));
+                orchestrator.setDispatchTimeout(Optional.ofNullable(provider.getDispatchTimeout())
+                        .orElse(provider.getDefaultTimeout()));
+            }
+        }
         return new InterceptingAutomationOrchestrator(orchestrator, executionInterceptors, handleEventInterceptors);
     }
 
@@ -69,7 +88,11 @@ public class CoreConfig {
 
     @Bean
     @ConditionalOnMissingBean
-    public AutomationFactory automationCreator(ManualAutomationBuilder builder, AutomationParserRouter router) {
-        return new AutomationFactory(builder, router);
+    public AutomationFactory automationCreator(ManualAutomationBuilder builder, AutomationParserRouter router,
+                                               @Autowired(required = false) AEConfigProvider provider) {
+        if (provider == null || provider.getAutomationCacheTtl() == null)
+            return new AutomationFactory(builder, router);
+        var cache = new CompiledAutomationCache(provider.getAutomationCacheSize(), provider.getAutomationCacheTtl());
+        return new AutomationFactory(builder, router, cache);
     }
 }
@@ -14,6 +14,7 @@ import com.davidrandoll.automation.engine.spring.modules.actions.uda.DefaultUser
 import com.davidrandoll.automation.engine.spring.modules.actions.uda.IUserDefinedActionRegistry;
 import com.davidrandoll.automation.engine.spring.modules.actions.uda.UserDefinedAction;
 import com.davidrandoll.automation.engine.spring.modules.actions.variable.VariableAction;
+import com.davidrandoll.automation.engine.spring.modules.actions.wait_for_trigger.TriggerWaiterRegistry;
 import com.davidrandoll.automation.engine.spring.modules.actions.wait_for_trigger.WaitForTriggerAction;
 import com.davidrandoll.automation.engine.spring.modules.conditions.always_false.AlwaysFalseCondition;
 import com.davidrandoll.automation.engine.spring.modules.conditions.always_true.AlwaysTrueCondition;
@@ -27,6 +28,7 @@ import com.davidrandoll.automation.engine.spring.modules.conditions.udc.DefaultU
 import com.davidrandoll.automation.engine.spring.modules.conditions.udc.IUserDefinedConditionRegistry;
 import com.davidrandoll.automation.engine.spring.modules.conditions.udc.UserDefinedCondition;
 import com.davidrandoll.automation.engine.spring.modules.events.AEEventPublisher;
+import com.davidrandoll.automation.engine.spring.modules.events.EventPublisherExecutor;
 import com.davidrandoll.automation.engine.spring.modules.events.time_based.TimeBasedEventPublisher;
 import com.davidrandoll.automation.engine.spring.modules.results.basic.BasicResult;
 import com.davidrandoll.automation.engine.spring.modules.triggers.always_false.AlwaysFalseTrigger;
@@ -48,7 +50,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.event.ApplicationEventMulticaster;
+
+import java.util.Optional;
 
 @Configuration
 public class ModulesConfig {
@@ -58,8 +61,8 @@ public class ModulesConfig {
 
     @Bean(name = "delayAction")
     @ConditionalOnMissingBean(name = "delayAction", ignored = DelayAction.class)
-    public DelayAction delayAction() {
-        return new DelayAction();
+    public DelayAction delayAction(@Autowired(required = false) AEConfigProvider provider) {
+        return new DelayAction(provider);
     }
 
     @Bean(name = "ifThenElseAction")
@@ -106,8 +109,14 @@ public class ModulesConfig {
 
     @Bean(name = "waitForTriggerAction")
     @ConditionalOnMissingBean(name = "waitForTriggerAction", ignored = WaitForTriggerAction.class)
-    public WaitForTriggerAction waitForTriggerAction(ApplicationEventMulticaster multicaster, @Autowired(required = false) AEConfigProvider provider) {
-        return new WaitForTriggerAction(multicaster, provider);
+    public WaitForTriggerAction waitForTriggerAction(TriggerWaiterRegistry waiterRegistry, @Autowired(required = false) AEConfigProvider provider) {
+        return new WaitForTriggerAction(waiterRegistry, provider);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TriggerWaiterRegistry triggerWaiterRegistry() {
+        return new TriggerWaiterRegistry();
     }
 
     @Bean
@@ -196,8 +205,14 @@ public class ModulesConfig {
 
     @Bean
     @ConditionalOnMissingBean(value = IEventPublisher.class, ignored = AEEventPublisher.class)
-    public IEventPublisher aeEventPublisher(ApplicationEventPublisher publisher) {
-        return new AEEventPublisher(publisher);
+    public IEventPublisher aeEventPublisher(ApplicationEventPublisher publisher, @Autowired(required = false) AEConfigProvider provider) {
+        if (provider == null)
+            return new AEEventPublisher(publisher);
+        var threads = provider.getEventPublisherThreads() > 0 ? provider.getEventPublisherThreads() : Runtime.getRuntime().availableProcessors();
+        var queueCapacity = provider.getEventPublisherQueueCapacity() > 0 ? provider.getEventPublisherQueueCapacity() : EventPublisherExecutor.DEFAULT_QUEUE_CAPACITY;
+        var overflowPolicy = Optional.ofNullable(provider.getEventPublisherOverflowPolicy()).orElse(EventPublisherExecutor.OverflowPolicy.BLOCK);
+        var executor = new EventPublisherExecutor(threads, queueCapacity, overflowPolicy, provider.isEventPublisherVirtualThreads());
+        return new AEEventPublisher(publisher, executor);
     }
 
     /*
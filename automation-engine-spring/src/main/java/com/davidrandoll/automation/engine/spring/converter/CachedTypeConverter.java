@@ -0,0 +1,55 @@
+package com.davidrandoll.automation.engine.spring.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeConverter} tuned for converting block contexts, which happens whenever a block is bound.
+ * <p>
+ * It converts with a copy of the application's object mapper that has the Blackbird module registered, so the
+ * properties of the context classes are set through generated accessors instead of reflection, while the
+ * application's own mapper is left as it is. The reader of each target class is resolved once, and trees are read
+ * directly with it instead of being written to a token buffer and parsed again.
+ * </p>
+ */
+@Slf4j
+public class CachedTypeConverter extends TypeConverter {
+    private final ClassValue<ObjectReader> readers = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return getObjectMapper().readerFor(type);
+        }
+    };
+
+    public CachedTypeConverter(ObjectMapper objectMapper) {
+        super(objectMapper.copy().registerModule(new BlackbirdModule()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object object, Class<?> clazz) {
+        var reader = readerFor(clazz);
+        var result = object instanceof JsonNode node ? (T) readTree(reader, node) : (T) getObjectMapper().convertValue(object, reader.getValueType());
+        if (result == null) {
+            log.warn("Type conversion failed. Object: {}, Class: {}", object, clazz);
+        }
+        return result;
+    }
+
+    ObjectReader readerFor(Class<?> clazz) {
+        return readers.get(clazz);
+    }
+
+    private Object readTree(ObjectReader reader, JsonNode node) {
+        try {
+            return reader.readValue(node);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+}
@@ -3,12 +3,15 @@ package com.davidrandoll.automation.engine.spring.converter;
 import com.davidrandoll.automation.engine.spring.spi.ITypeConverter;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RequiredArgsConstructor
 public class TypeConverter implements ITypeConverter {
+    @Getter(AccessLevel.PROTECTED)
     private final ObjectMapper objectMapper;
 
     @SuppressWarnings("unchecked")
@@ -1,21 +1,32 @@
 package com.davidrandoll.automation.engine.spring.modules.actions.delay;
 
+import com.davidrandoll.automation.engine.core.actions.exceptions.SuspendActionSequenceException;
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.spring.AEConfigProvider;
 import com.davidrandoll.automation.engine.spring.spi.PluggableAction;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Duration;
 
+/**
+ * Pauses the action sequence for the configured duration.
+ * <p>
+ * A delay among the top-level actions of an automation suspends them: the remaining actions are resumed on the
+ * {@link AEConfigProvider#getScheduledExecutorService() scheduled executor} once the delay has passed, without
+ * holding a thread in between, and the automation completes with the actions run so far. Delays nested in another
+ * action, or without a config provider, wait on the executing thread. Suspended actions only live in memory and do
+ * not survive a restart.
+ * </p>
+ */
 @RequiredArgsConstructor
 public class DelayAction extends PluggableAction<DelayActionContext> {
+    private final AEConfigProvider configProvider;
 
     @Override
     public void doExecute(EventContext ec, DelayActionContext ac) {
         Duration duration = ac.getDuration();
-        try {
-            Thread.sleep(duration.toMillis());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        if (duration == null || duration.isNegative() || duration.isZero()) return;
+        var scheduler = configProvider == null ? null : configProvider.getScheduledExecutorService();
+        throw new SuspendActionSequenceException(duration, scheduler);
     }
-}
\ No newline at end of file
+}
@@ -8,10 +8,15 @@ import lombok.experimental.FieldNameConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.ObjectUtils;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
 @Slf4j
 @RequiredArgsConstructor
 @FieldNameConstants
 public class ParallelAction extends PluggableAction<ParallelActionContext> {
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
     private final AEConfigProvider provider;
 
     @Override
@@ -19,7 +24,10 @@ public class ParallelAction extends PluggableAction<ParallelActionContext> {
         if (ObjectUtils.isEmpty(ac.getActions())) return;
 
         var executor = provider != null ? provider.getExecutor() : null;
-        if (executor != null) {
+        if (executor == null && provider != null && provider.isVirtualThreads()) {
+            log.debug("Virtual threads enabled, running each action on its own virtual thread");
+            processor.executeActionsAsync(ec, ac.getActions(), VIRTUAL_THREAD_EXECUTOR);
+        } else if (executor != null) {
             log.debug("Executor provider found, using provided executor");
             processor.executeActionsAsync(ec, ac.getActions(), executor);
         } else {
@@ -0,0 +1,176 @@
+package com.davidrandoll.automation.engine.spring.modules.actions.wait_for_trigger;
+
+import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.events.IEvent;
+import com.davidrandoll.automation.engine.core.triggers.BaseTriggerList;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.IBaseTrigger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of the pending {@code waitForTrigger} actions and completes them when a matching event is published.
+ * <p>
+ * The registry is the single listener for all the waiters. Each waiter is indexed by the event types its triggers
+ * declare, so an event is only checked against the waiters that can match it. Triggers that cannot narrow down
+ * their events are checked against every event, and event types are dropped from the index once no waiter is left
+ * for them. Timeouts are handled by one shared timer thread.
+ * </p>
+ * <p>
+ * The registry only replaces the listener and timer each wait used to add; the action still blocks its thread on
+ * the returned future until the waiter completes.
+ * </p>
+ */
+@Slf4j
+public class TriggerWaiterRegistry implements ApplicationListener<ApplicationEvent>, AutoCloseable {
+    private final Set<Waiter> anyEventWaiters = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, Set<Waiter>> waitersByClass = new ConcurrentHashMap<>();
+    private final Map<String, Set<Waiter>> waitersByTypeName = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ScheduledExecutorService timer;
+
+    public TriggerWaiterRegistry() {
+        this(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "ae-wait-for-trigger-timer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    public TriggerWaiterRegistry(ScheduledExecutorService timer) {
+        this.timer = timer;
+    }
+
+    /**
+     * Registers a waiter for the given triggers.
+     *
+     * @return a future completed with {@code true} when one of the triggers fires, or with {@code false} once the
+     * timeout is reached. Cancelling the future unregisters the waiter.
+     * @throws RejectedExecutionException if the registry is closed
+     */
+    public CompletableFuture<Boolean> register(BaseTriggerList triggers, Duration timeout) {
+        var waiter = new Waiter(triggers);
+        // schedule first, so a closed registry rejects the waiter before it is indexed
+        var timeoutTask = timer.schedule(() -> waiter.future.complete(false), timeout.toMillis(), TimeUnit.MILLISECONDS);
+        index(waiter);
+        pending.incrementAndGet();
+        waiter.future.whenComplete((triggered, error) -> {
+            timeoutTask.cancel(false);
+            unindex(waiter);
+            pending.decrementAndGet();
+        });
+        return waiter.future;
+    }
+
+    /**
+     * @return the number of waiters that are neither triggered nor timed out yet
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (pending.get() == 0) return;
+
+        Object payload = event;
+        if (event instanceof PayloadApplicationEvent<?> pae) {
+            payload = pae.getPayload();
+        }
+
+        EventContext eventContext = switch (payload) {
+            case EventContext ec -> ec;
+            case IEvent e -> EventContext.of(e);
+            default -> null;
+        };
+        if (eventContext == null) return;
+
+        for (Waiter waiter : candidates(eventContext.getEvent())) {
+            if (waiter.future.isDone()) continue;
+            try {
+                if (waiter.triggers.anyTriggered(eventContext)) {
+                    log.debug("Trigger matched in waitForTrigger action: {}", eventContext.getEvent());
+                    waiter.future.complete(true);
+                }
+            } catch (RuntimeException e) {
+                log.error("Error checking waitForTrigger triggers", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+
+    private Set<Waiter> candidates(IEvent event) {
+        Set<Waiter> candidates = new LinkedHashSet<>(anyEventWaiters);
+        if (event == null) return candidates;
+        waitersByClass.forEach((eventClass, waiters) -> {
+            if (eventClass.isInstance(event)) candidates.addAll(waiters);
+        });
+        if (event.getEventType() != null) {
+            var waiters = waitersByTypeName.get(DeclaredEventTypes.normalize(event.getEventType()));
+            if (waiters != null) candidates.addAll(waiters);
+        }
+        return candidates;
+    }
+
+    private void index(Waiter waiter) {
+        for (IBaseTrigger trigger : waiter.triggers) {
+            var declared = trigger.getDeclaredEventTypes();
+            if (declared == null || declared.isAny()) {
+                anyEventWaiters.add(waiter);
+                continue;
+            }
+            declared.getEventClasses().forEach(eventClass -> add(waitersByClass, eventClass, waiter));
+            declared.getEventTypeNames().forEach(name -> add(waitersByTypeName, name, waiter));
+        }
+    }
+
+    private void unindex(Waiter waiter) {
+        anyEventWaiters.remove(waiter);
+        for (IBaseTrigger trigger : waiter.triggers) {
+            var declared = trigger.getDeclaredEventTypes();
+            if (declared == null || declared.isAny()) continue;
+            declared.getEventClasses().forEach(eventClass -> remove(waitersByClass, eventClass, waiter));
+            declared.getEventTypeNames().forEach(name -> remove(waitersByTypeName, name, waiter));
+        }
+    }
+
+    // Sets are added and removed inside compute, so a waiter is never added to a set that was just dropped
+    private static <K> void add(Map<K, Set<Waiter>> index, K key, Waiter waiter) {
+        index.compute(key, (k, waiters) -> {
+            if (waiters == null) waiters = ConcurrentHashMap.newKeySet();
+            waiters.add(waiter);
+            return waiters;
+        });
+    }
+
+    private static <K> void remove(Map<K, Set<Waiter>> index, K key, Waiter waiter) {
+        index.computeIfPresent(key, (k, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    int getIndexedTypeCount() {
+        return waitersByClass.size() + waitersByTypeName.size();
+    }
+
+    private static final class Waiter {
+        private final BaseTriggerList triggers;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private Waiter(BaseTriggerList triggers) {
+            this.triggers = triggers;
+        }
+    }
+}
@@ -1,23 +1,42 @@
 package com.davidrandoll.automation.engine.spring.modules.events;
 
 import com.davidrandoll.automation.engine.core.events.publisher.IEventPublisher;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.util.Assert;
 
-import java.util.concurrent.CompletableFuture;
-
+@Slf4j
 @RequiredArgsConstructor
 @ConditionalOnMissingBean(value = IEventPublisher.class, ignored = AEEventPublisher.class)
-public class AEEventPublisher implements IEventPublisher {
+public class AEEventPublisher implements IEventPublisher, AutoCloseable {
     private final ApplicationEventPublisher publisher;
 
+    @Getter
+    private final EventPublisherExecutor executor;
+
+    public AEEventPublisher(ApplicationEventPublisher publisher) {
+        this(publisher, EventPublisherExecutor.withDefaults());
+    }
+
     @Override
     public void publishEvent(Object event) {
         Assert.notNull(event, "Event cannot be null");
         // We publish events asynchronously to avoid deadlocks when an action blocks the execution thread
         // (e.g. waitForTrigger) and the same thread is used to publish the unblocking event.
-        CompletableFuture.runAsync(() -> publisher.publishEvent(event));
+        executor.execute(() -> {
+            try {
+                publisher.publishEvent(event);
+            } catch (RuntimeException e) {
+                log.error("Error publishing event {}", event.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.close();
     }
-}
\ No newline at end of file
+}
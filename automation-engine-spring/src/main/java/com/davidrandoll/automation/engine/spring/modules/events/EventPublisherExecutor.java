@@ -0,0 +1,183 @@
+package com.davidrandoll.automation.engine.spring.modules.events;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The executor the engine events are published on: a fixed number of workers with a queue, or a virtual thread per
+ * event.
+ * <p>
+ * The queue is unbounded by default, so no event is ever lost, including the ones an action waits for. With a
+ * bounded queue, new events that do not fit are handled according to the {@link OverflowPolicy}; events are only
+ * dropped when {@link OverflowPolicy#DROP_OLDEST} is chosen, and every drop is counted and
+ * logged, at most once every few seconds.
+ * </p>
+ */
+@Slf4j
+public class EventPublisherExecutor implements Executor, AutoCloseable {
+    /**
+     * An unbounded queue
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = Integer.MAX_VALUE;
+    /**
+     * Dropped events are logged at most once per interval, with the number dropped so far
+     */
+    private static final long DROP_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    public enum OverflowPolicy {
+        /**
+         * Publish the event on the calling thread. The listeners then run on the publisher, so an action waiting for
+         * an event it publishes itself can deadlock; only use it when no action does.
+         */
+        CALLER_RUNS,
+        /**
+         * Drop the oldest queued event to make room for the new one. Events are lost, including ones an action may be
+         * waiting for, so only use it when shedding load matters more than delivering every event.
+         */
+        DROP_OLDEST,
+        /**
+         * Block the calling thread until there is room in the queue, so no event is lost. This can deadlock the same
+         * way as {@link #CALLER_RUNS} when the queue is full of events waited on by the blocked thread, so choose a
+         * capacity well above the number of events in flight.
+         */
+        BLOCK
+    }
+
+    /**
+     * The worker pool, or null when every event is published on its own virtual thread
+     */
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService perTask;
+    private final OverflowPolicy overflowPolicy;
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong lastDropWarning = new AtomicLong(System.nanoTime() - DROP_WARNING_INTERVAL_NANOS);
+    private final AtomicInteger perTaskActive = new AtomicInteger();
+    private final LongAdder perTaskCompleted = new LongAdder();
+
+    /**
+     * @param virtualThreads publish every event on its own virtual thread instead; the thread count, queue capacity
+     *                       and overflow policy then do not apply, and events are no longer published in order
+     */
+    public EventPublisherExecutor(int threads, int queueCapacity, OverflowPolicy overflowPolicy, boolean virtualThreads) {
+        if (threads <= 0) throw new IllegalArgumentException("Threads must be positive");
+        if (queueCapacity <= 0) throw new IllegalArgumentException("Queue capacity must be positive");
+        this.overflowPolicy = overflowPolicy;
+        if (virtualThreads) {
+            this.pool = null;
+            this.perTask = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ae-event-publisher-", 0).factory());
+        } else {
+            this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity), threadFactory(), this::onOverflow);
+            this.perTask = null;
+        }
+    }
+
+    public static EventPublisherExecutor withDefaults() {
+        return new EventPublisherExecutor(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY,
+                OverflowPolicy.BLOCK, false);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (pool != null) {
+            pool.execute(command);
+            return;
+        }
+        perTaskActive.incrementAndGet();
+        try {
+            perTask.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    perTaskActive.decrementAndGet();
+                    perTaskCompleted.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            perTaskActive.decrementAndGet();
+            drop("the event publisher is shut down");
+        }
+    }
+
+    /**
+     * @return the number of events waiting to be published
+     */
+    public int getQueueDepth() {
+        return pool == null ? 0 : pool.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return pool == null ? Integer.MAX_VALUE : pool.getQueue().size() + pool.getQueue().remainingCapacity();
+    }
+
+    public int getActiveCount() {
+        return pool == null ? perTaskActive.get() : pool.getActiveCount();
+    }
+
+    public long getCompletedCount() {
+        return pool == null ? perTaskCompleted.sum() : pool.getCompletedTaskCount();
+    }
+
+    /**
+     * @return the number of events dropped because the queue was full or the executor was shut down
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) pool.shutdown();
+        else perTask.shutdown();
+    }
+
+    private void onOverflow(Runnable command, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            drop("the event publisher is shut down");
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS -> command.run();
+            case DROP_OLDEST -> {
+                if (pool.getQueue().poll() != null) drop("the queue is full");
+                pool.execute(command);
+            }
+            case BLOCK -> {
+                try {
+                    pool.getQueue().put(command);
+                    // the executor may have been shut down while waiting, and would then never run the event
+                    if (pool.isShutdown() && pool.getQueue().remove(command))
+                        drop("the event publisher is shut down");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting to publish an event", e);
+                }
+            }
+        }
+    }
+
+    private void drop(String reason) {
+        dropped.increment();
+        long now = System.nanoTime();
+        long last = lastDropWarning.get();
+        if (now - last >= DROP_WARNING_INTERVAL_NANOS && lastDropWarning.compareAndSet(last, now))
+            log.warn("Dropped an event because {}, {} events dropped so far", reason, dropped.sum());
+    }
+
+    private static ThreadFactory threadFactory() {
+        var count = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, "ae-event-publisher-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,6 +1,8 @@
 package com.davidrandoll.automation.engine.spring.modules.triggers.on_event_type;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import com.davidrandoll.automation.engine.spring.spi.PluggableTrigger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +11,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OnEventTypeTrigger extends PluggableTrigger<OnEventTypeTriggerContext> {
 
+    /**
+     * Only an exact eventType can be routed. Simple names and regexes can match many event types,
+     * and a templated eventType is only known once the trigger is evaluated.
+     */
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        OnEventTypeTriggerContext tc = getTypeConverter().convert(triggerContext, getContextType());
+        if (tc == null || tc.getEventType() == null || tc.getEventName() != null || tc.getRegex() != null)
+            return DeclaredEventTypes.any();
+        if (tc.getEventType().contains("{"))
+            return DeclaredEventTypes.any();
+        return DeclaredEventTypes.ofNames(tc.getEventType());
+    }
+
     @Override
     public boolean isTriggered(EventContext ec, OnEventTypeTriggerContext tc) {
         var event = ec.getEvent();
@@ -1,6 +1,8 @@
 package com.davidrandoll.automation.engine.spring.modules.triggers.time_based;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import com.davidrandoll.automation.engine.spring.modules.events.time_based.TimeBasedEvent;
 import com.davidrandoll.automation.engine.spring.modules.events.time_based.TimeBasedEventPublisher;
 import com.davidrandoll.automation.engine.spring.spi.PluggableTrigger;
@@ -23,6 +25,11 @@ import java.time.LocalTime;
 public class TimeBasedTrigger extends PluggableTrigger<TimeBasedTriggerContext> {
     private final TimeBasedEventPublisher publisher;
 
+    @Override
+    public DeclaredEventTypes getDeclaredEventTypes(TriggerContext triggerContext) {
+        return DeclaredEventTypes.of(TimeBasedEvent.class);
+    }
+
     @Override
     public boolean isTriggered(EventContext ec, TimeBasedTriggerContext tc) {
         if (!(ec.getEvent() instanceof TimeBasedEvent timeBasedEvent))
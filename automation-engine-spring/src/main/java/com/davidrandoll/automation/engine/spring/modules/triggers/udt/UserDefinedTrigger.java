@@ -1,6 +1,7 @@
 package com.davidrandoll.automation.engine.spring.modules.triggers.udt;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import com.davidrandoll.automation.engine.spring.spi.PluggableTrigger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,14 @@ import org.springframework.web.server.ResponseStatusException;
 public class UserDefinedTrigger extends PluggableTrigger<UserDefinedTriggerContext> {
     private final IUserDefinedTriggerRegistry registry;
 
+    /**
+     * The user-defined trigger definition can read any variable, and resolves its own
+     */
+    @Override
+    public boolean readsVariables(TriggerContext triggerContext) {
+        return true;
+    }
+
     @Override
     public boolean isTriggered(EventContext ec, UserDefinedTriggerContext tc) {
         if (ObjectUtils.isEmpty(tc.getName())) {
@@ -0,0 +1,28 @@
+package com.davidrandoll.automation.engine.spring.spi;
+
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
+import lombok.experimental.UtilityClass;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Binds typed contexts once per block instead of converting them on every execution.
+ * <p>
+ * The typed context is kept in the {@link BlockCache} of the block's definition, together with the data it was
+ * converted from. A block without templates is handed the same data on every execution, so it is converted once
+ * for as long as the definition lives. The data of a templated block is rendered anew on every execution, so it
+ * is converted again each time, as are contexts that were not created from a definition.
+ * </p>
+ * <p>
+ * A bound context is shared by all executions of the block, including concurrent ones, so blocks must treat it
+ * as read-only.
+ * </p>
+ */
+@UtilityClass
+class ContextBindings {
+    <T> T bind(Object binder, BlockCache blockCache, Map<String, Object> data, Supplier<T> converter) {
+        if (blockCache == null || data == null) return converter.get();
+        return blockCache.derive(binder, data, source -> converter.get());
+    }
+}
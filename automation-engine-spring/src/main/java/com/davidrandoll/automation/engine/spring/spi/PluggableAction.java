@@ -1,5 +1,6 @@
 package com.davidrandoll.automation.engine.spring.spi;
 
+import com.davidrandoll.automation.engine.core.actions.ActionContext;
 import com.davidrandoll.automation.engine.core.actions.IActionContext;
 import com.davidrandoll.automation.engine.creator.AutomationProcessor;
 import lombok.experimental.Delegate;
@@ -17,6 +18,8 @@ public abstract class PluggableAction<T extends IActionContext> implements Typed
     @Autowired
     private ApplicationContext applicationContext;
 
+    private volatile TypedAction<T> self;
+
     @Override
     public ITypeConverter getTypeConverter() {
         return typeConverter;
@@ -25,6 +28,15 @@ public abstract class PluggableAction<T extends IActionContext> implements Typed
     @Override
     @SuppressWarnings("unchecked")
     public TypedAction<T> getSelf() {
-        return (TypedAction<T>) applicationContext.getBean(this.getClass());
+        var result = self;
+        if (result == null)
+            self = result = (TypedAction<T>) applicationContext.getBean(this.getClass());
+        return result;
+    }
+
+    @Override
+    public T bindContext(ActionContext actionContext) {
+        return ContextBindings.bind(this, actionContext.getBlockCache(), actionContext.getData(),
+                () -> TypedAction.super.bindContext(actionContext));
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.davidrandoll.automation.engine.spring.spi;
 
+import com.davidrandoll.automation.engine.core.conditions.ConditionContext;
 import com.davidrandoll.automation.engine.core.conditions.IConditionContext;
 import com.davidrandoll.automation.engine.creator.AutomationProcessor;
 import lombok.experimental.Delegate;
@@ -17,6 +18,8 @@ public abstract class PluggableCondition<T extends IConditionContext> implements
     @Autowired
     private ApplicationContext applicationContext;
 
+    private volatile TypedCondition<T> self;
+
     @Override
     public ITypeConverter getTypeConverter() {
         return typeConverter;
@@ -25,6 +28,15 @@ public abstract class PluggableCondition<T extends IConditionContext> implements
     @Override
     @SuppressWarnings("unchecked")
     public TypedCondition<T> getSelf() {
-        return (TypedCondition<T>) applicationContext.getBean(this.getClass());
+        var result = self;
+        if (result == null)
+            self = result = (TypedCondition<T>) applicationContext.getBean(this.getClass());
+        return result;
+    }
+
+    @Override
+    public T bindContext(ConditionContext conditionContext) {
+        return ContextBindings.bind(this, conditionContext.getBlockCache(), conditionContext.getData(),
+                () -> TypedCondition.super.bindContext(conditionContext));
     }
 }
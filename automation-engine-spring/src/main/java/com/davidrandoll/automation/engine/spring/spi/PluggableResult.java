@@ -17,6 +17,8 @@ public abstract class PluggableResult<T extends IResultContext> implements Typed
     @Autowired
     private ApplicationContext applicationContext;
 
+    private volatile TypedResult<T> self;
+
     @Override
     public ITypeConverter getTypeConverter() {
         return typeConverter;
@@ -25,6 +27,9 @@ public abstract class PluggableResult<T extends IResultContext> implements Typed
     @Override
     @SuppressWarnings("unchecked")
     public TypedResult<T> getSelf() {
-        return (TypedResult<T>) applicationContext.getBean(this.getClass());
+        var result = self;
+        if (result == null)
+            self = result = (TypedResult<T>) applicationContext.getBean(this.getClass());
+        return result;
     }
 }
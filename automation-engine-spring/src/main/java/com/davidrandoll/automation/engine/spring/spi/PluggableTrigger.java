@@ -1,5 +1,6 @@
 package com.davidrandoll.automation.engine.spring.spi;
 
+import com.davidrandoll.automation.engine.core.triggers.TriggerContext;
 import com.davidrandoll.automation.engine.core.triggers.ITriggerContext;
 import com.davidrandoll.automation.engine.creator.AutomationProcessor;
 import lombok.experimental.Delegate;
@@ -17,6 +18,8 @@ public abstract class PluggableTrigger<T extends ITriggerContext> implements Typ
     @Autowired
     private ApplicationContext applicationContext;
 
+    private volatile PluggableTrigger<T> self;
+
     @Override
     public ITypeConverter getTypeConverter() {
         return typeConverter;
@@ -25,6 +28,15 @@ public abstract class PluggableTrigger<T extends ITriggerContext> implements Typ
     @Override
     @SuppressWarnings("unchecked")
     public PluggableTrigger<T> getSelf() {
-        return (PluggableTrigger<T>) applicationContext.getBean(this.getClass());
+        var result = self;
+        if (result == null)
+            self = result = (PluggableTrigger<T>) applicationContext.getBean(this.getClass());
+        return result;
+    }
+
+    @Override
+    public T bindContext(TriggerContext triggerContext) {
+        return ContextBindings.bind(this, triggerContext.getBlockCache(), triggerContext.getData(),
+                () -> TypedTrigger.super.bindContext(triggerContext));
     }
 }
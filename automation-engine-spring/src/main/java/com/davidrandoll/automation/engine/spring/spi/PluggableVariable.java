@@ -1,5 +1,6 @@
 package com.davidrandoll.automation.engine.spring.spi;
 
+import com.davidrandoll.automation.engine.core.variables.VariableContext;
 import com.davidrandoll.automation.engine.core.variables.IVariableContext;
 import com.davidrandoll.automation.engine.creator.AutomationProcessor;
 import lombok.experimental.Delegate;
@@ -17,6 +18,8 @@ public abstract class PluggableVariable<T extends IVariableContext> implements T
     @Autowired
     private ApplicationContext applicationContext;
 
+    private volatile TypedVariable<T> self;
+
     @Override
     public ITypeConverter getTypeConverter() {
         return typeConverter;
@@ -25,6 +28,15 @@ public abstract class PluggableVariable<T extends IVariableContext> implements T
     @Override
     @SuppressWarnings("unchecked")
     public TypedVariable<T> getSelf() {
-        return (TypedVariable<T>) applicationContext.getBean(this.getClass());
+        var result = self;
+        if (result == null)
+            self = result = (TypedVariable<T>) applicationContext.getBean(this.getClass());
+        return result;
+    }
+
+    @Override
+    public T bindContext(VariableContext variableContext) {
+        return ContextBindings.bind(this, variableContext.getBlockCache(), variableContext.getData(),
+                () -> TypedVariable.super.bindContext(variableContext));
     }
 }
\ No newline at end of file
@@ -21,7 +21,7 @@ public interface TypedAction<T extends IActionContext> extends IAction {
 
     @Override
     default void execute(EventContext eventContext, ActionContext actionContext) {
-        T data = getTypeConverter().convert(actionContext, this.getContextType());
+        T data = bindContext(actionContext);
         if (data == null)
             throw new IllegalArgumentException("Cannot convert action context data to " + this.getContextType());
 
@@ -40,6 +40,13 @@ public interface TypedAction<T extends IActionContext> extends IAction {
 
     void doExecute(EventContext ec, T ac);
 
+    /**
+     * Convert the action context to the typed context this action operates on.
+     */
+    default T bindContext(ActionContext actionContext) {
+        return getTypeConverter().convert(actionContext, getContextType());
+    }
+
     @Override
     default List<T> getExamples() {
         var example = getTypeConverter().convert(Map.of(), getContextType());
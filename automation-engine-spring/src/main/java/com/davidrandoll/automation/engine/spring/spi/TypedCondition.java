@@ -21,7 +21,7 @@ public interface TypedCondition<T extends IConditionContext> extends ICondition
 
     @Override
     default boolean isSatisfied(EventContext eventContext, ConditionContext conditionContext) {
-        T data = getTypeConverter().convert(conditionContext, getContextType());
+        T data = bindContext(conditionContext);
         // Calling the proxied self to ensure AOP aspects are applied such as transactions, logging, etc.
         var self = getSelf();
         if (self == null)
@@ -31,6 +31,13 @@ public interface TypedCondition<T extends IConditionContext> extends ICondition
 
     boolean isSatisfied(EventContext ec, T cc);
 
+    /**
+     * Convert the condition context to the typed context this condition operates on.
+     */
+    default T bindContext(ConditionContext conditionContext) {
+        return getTypeConverter().convert(conditionContext, getContextType());
+    }
+
     @Override
     default List<T> getExamples() {
         var example = getTypeConverter().convert(Map.of(), getContextType());
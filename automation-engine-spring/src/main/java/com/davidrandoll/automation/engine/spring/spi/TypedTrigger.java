@@ -21,7 +21,7 @@ public interface TypedTrigger<T extends ITriggerContext> extends ITrigger {
 
     @Override
     default boolean isTriggered(EventContext eventContext, TriggerContext triggerContext) {
-        T data = getTypeConverter().convert(triggerContext, getContextType());
+        T data = bindContext(triggerContext);
         // Calling the proxied self to ensure AOP aspects are applied such as transactions, logging, etc.
         var self = getSelf();
         if (self == null)
@@ -31,6 +31,13 @@ public interface TypedTrigger<T extends ITriggerContext> extends ITrigger {
 
     boolean isTriggered(EventContext ec, T tc);
 
+    /**
+     * Convert the trigger context to the typed context this trigger operates on.
+     */
+    default T bindContext(TriggerContext triggerContext) {
+        return getTypeConverter().convert(triggerContext, getContextType());
+    }
+
     @Override
     default List<T> getExamples() {
         var example = getTypeConverter().convert(Map.of(), getContextType());
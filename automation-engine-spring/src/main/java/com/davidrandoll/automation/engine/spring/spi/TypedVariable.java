@@ -21,7 +21,7 @@ public interface TypedVariable<T extends IVariableContext> extends IVariable {
 
     @Override
     default void resolve(EventContext eventContext, VariableContext variableContext) {
-        T data = getTypeConverter().convert(variableContext, getContextType());
+        T data = bindContext(variableContext);
         // Calling the proxied self to ensure AOP aspects are applied such as transactions, logging, etc.
         var self = getSelf();
         if (self == null)
@@ -31,6 +31,13 @@ public interface TypedVariable<T extends IVariableContext> extends IVariable {
 
     void resolve(EventContext eventContext, T variableContext);
 
+    /**
+     * Convert the variable context to the typed context this variable operates on.
+     */
+    default T bindContext(VariableContext variableContext) {
+        return getTypeConverter().convert(variableContext, getContextType());
+    }
+
     @Override
     default List<T> getExamples() {
         var example = getTypeConverter().convert(Map.of(), getContextType());
@@ -0,0 +1,66 @@
+package com.davidrandoll.automation.engine.spring.suppliers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.context.ApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Looks up blocks by name, where a block named "foo" or "fooAction" is the bean "fooAction" for the suffix "Action".
+ * <p>
+ * The singleton blocks are indexed under both names when the context is refreshed, so a lookup is a single map
+ * read. Other beans fall back to the application context, and names that are not found are remembered until the
+ * next refresh.
+ * </p>
+ */
+@Slf4j
+class BlockBeanRegistry<T> {
+    private final ApplicationContext applicationContext;
+    private final Class<T> type;
+    private final String suffix;
+
+    private volatile Map<String, T> blocks = Map.of();
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    BlockBeanRegistry(ApplicationContext applicationContext, Class<T> type, String suffix) {
+        this.applicationContext = applicationContext;
+        this.type = type;
+        this.suffix = suffix;
+    }
+
+    /**
+     * @return the block, or null if there is no bean with that name
+     */
+    T get(String name) {
+        var block = blocks.get(name);
+        if (block != null) return block;
+        if (missing.contains(name)) return null;
+
+        try {
+            var beanName = name.endsWith(suffix) ? name : name + suffix;
+            return applicationContext.getBean(beanName, type);
+        } catch (NoSuchBeanDefinitionException e) {
+            if (missing.add(name)) log.error("Bean {} not found: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    void refresh(ApplicationContext refreshedContext) {
+        if (refreshedContext != applicationContext) return;
+
+        var index = new HashMap<String, T>();
+        applicationContext.getBeansOfType(type, false, true).forEach((beanName, block) -> {
+            if (!beanName.endsWith(suffix)) return;
+            index.put(beanName, block);
+            // a name ending with the suffix is always looked up as is, so only shorter names are aliases
+            var alias = beanName.substring(0, beanName.length() - suffix.length());
+            if (!alias.endsWith(suffix)) index.put(alias, block);
+        });
+        blocks = Map.copyOf(index);
+        missing.clear();
+    }
+}
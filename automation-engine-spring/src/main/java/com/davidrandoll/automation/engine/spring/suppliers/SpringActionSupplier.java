@@ -3,27 +3,29 @@ package com.davidrandoll.automation.engine.spring.suppliers;
 import com.davidrandoll.automation.engine.core.actions.IAction;
 import com.davidrandoll.automation.engine.creator.actions.ActionNotFoundException;
 import com.davidrandoll.automation.engine.creator.actions.IActionSupplier;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
-@Slf4j
-@RequiredArgsConstructor
-public class SpringActionSupplier implements IActionSupplier {
-    private final ApplicationContext applicationContext;
+/**
+ * Supplies the action beans from the application context, indexed by name when the context is refreshed.
+ */
+public class SpringActionSupplier implements IActionSupplier, ApplicationListener<ContextRefreshedEvent> {
+    private final BlockBeanRegistry<IAction> registry;
+
+    public SpringActionSupplier(ApplicationContext applicationContext) {
+        this.registry = new BlockBeanRegistry<>(applicationContext, IAction.class, "Action");
+    }
 
     @Override
     public IAction getAction(String name) throws ActionNotFoundException {
-        try {
-            if (name.endsWith("Action")) {
-                return applicationContext.getBean(name, IAction.class);
-            }
-            var actionName = "%sAction".formatted(name);
-            return applicationContext.getBean(actionName, IAction.class);
-        } catch (NoSuchBeanDefinitionException e) {
-            log.error("Bean {} not found", name, e);
-            throw new ActionNotFoundException(name);
-        }
+        var action = registry.get(name);
+        if (action == null) throw new ActionNotFoundException(name);
+        return action;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        registry.refresh(event.getApplicationContext());
     }
 }
\ No newline at end of file
@@ -3,27 +3,29 @@ package com.davidrandoll.automation.engine.spring.suppliers;
 import com.davidrandoll.automation.engine.core.conditions.ICondition;
 import com.davidrandoll.automation.engine.creator.conditions.ConditionNotFoundException;
 import com.davidrandoll.automation.engine.creator.conditions.IConditionSupplier;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
-@Slf4j
-@RequiredArgsConstructor
-public class SpringConditionSupplier implements IConditionSupplier {
-    private final ApplicationContext applicationContext;
+/**
+ * Supplies the condition beans from the application context, indexed by name when the context is refreshed.
+ */
+public class SpringConditionSupplier implements IConditionSupplier, ApplicationListener<ContextRefreshedEvent> {
+    private final BlockBeanRegistry<ICondition> registry;
+
+    public SpringConditionSupplier(ApplicationContext applicationContext) {
+        this.registry = new BlockBeanRegistry<>(applicationContext, ICondition.class, "Condition");
+    }
 
     @Override
     public ICondition getCondition(String name) {
-        try {
-            if (name.endsWith("Condition")) {
-                return applicationContext.getBean(name, ICondition.class);
-            }
-            var conditionName = "%sCondition".formatted(name);
-            return applicationContext.getBean(conditionName, ICondition.class);
-        } catch (NoSuchBeanDefinitionException e) {
-            log.error("Bean {} not found", name, e);
-            throw new ConditionNotFoundException(name);
-        }
+        var condition = registry.get(name);
+        if (condition == null) throw new ConditionNotFoundException(name);
+        return condition;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        registry.refresh(event.getApplicationContext());
     }
 }
\ No newline at end of file
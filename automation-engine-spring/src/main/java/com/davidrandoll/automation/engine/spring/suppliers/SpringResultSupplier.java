@@ -3,27 +3,29 @@ package com.davidrandoll.automation.engine.spring.suppliers;
 import com.davidrandoll.automation.engine.core.result.IResult;
 import com.davidrandoll.automation.engine.creator.result.IResultSupplier;
 import com.davidrandoll.automation.engine.creator.result.ResultNotFoundException;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
-@Slf4j
-@RequiredArgsConstructor
-public class SpringResultSupplier implements IResultSupplier {
-    private final ApplicationContext applicationContext;
+/**
+ * Supplies the result beans from the application context, indexed by name when the context is refreshed.
+ */
+public class SpringResultSupplier implements IResultSupplier, ApplicationListener<ContextRefreshedEvent> {
+    private final BlockBeanRegistry<IResult> registry;
+
+    public SpringResultSupplier(ApplicationContext applicationContext) {
+        this.registry = new BlockBeanRegistry<>(applicationContext, IResult.class, "Result");
+    }
 
     @Override
     public IResult getResult(String name) {
-        try {
-            if (name.endsWith("Result")) {
-                return applicationContext.getBean(name, IResult.class);
-            }
-            var resultName = "%sResult".formatted(name);
-            return applicationContext.getBean(resultName, IResult.class);
-        } catch (NoSuchBeanDefinitionException e) {
-            log.error("Bean {} not found", name, e);
-            throw new ResultNotFoundException(name);
-        }
+        var result = registry.get(name);
+        if (result == null) throw new ResultNotFoundException(name);
+        return result;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        registry.refresh(event.getApplicationContext());
     }
 }
\ No newline at end of file
@@ -3,27 +3,29 @@ package com.davidrandoll.automation.engine.spring.suppliers;
 import com.davidrandoll.automation.engine.core.triggers.ITrigger;
 import com.davidrandoll.automation.engine.creator.triggers.ITriggerSupplier;
 import com.davidrandoll.automation.engine.creator.triggers.TriggerNotFoundException;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
-@Slf4j
-@RequiredArgsConstructor
-public class SpringTriggerSupplier implements ITriggerSupplier {
-    private final ApplicationContext applicationContext;
+/**
+ * Supplies the trigger beans from the application context, indexed by name when the context is refreshed.
+ */
+public class SpringTriggerSupplier implements ITriggerSupplier, ApplicationListener<ContextRefreshedEvent> {
+    private final BlockBeanRegistry<ITrigger> registry;
+
+    public SpringTriggerSupplier(ApplicationContext applicationContext) {
+        this.registry = new BlockBeanRegistry<>(applicationContext, ITrigger.class, "Trigger");
+    }
 
     @Override
     public ITrigger getTrigger(String name) {
-        try {
-            if (name.endsWith("Trigger")) {
-                return applicationContext.getBean(name, ITrigger.class);
-            }
-            var triggerName = "%sTrigger".formatted(name);
-            return applicationContext.getBean(triggerName, ITrigger.class);
-        } catch (NoSuchBeanDefinitionException e) {
-            log.error("Bean {} not found", name, e);
-            throw new TriggerNotFoundException(name);
-        }
+        var trigger = registry.get(name);
+        if (trigger == null) throw new TriggerNotFoundException(name);
+        return trigger;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        registry.refresh(event.getApplicationContext());
     }
 }
\ No newline at end of file
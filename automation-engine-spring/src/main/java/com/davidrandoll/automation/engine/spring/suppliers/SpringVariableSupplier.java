@@ -3,27 +3,29 @@ package com.davidrandoll.automation.engine.spring.suppliers;
 import com.davidrandoll.automation.engine.core.variables.IVariable;
 import com.davidrandoll.automation.engine.creator.variables.IVariableSupplier;
 import com.davidrandoll.automation.engine.creator.variables.VariableNotFoundException;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
-@Slf4j
-@RequiredArgsConstructor
-public class SpringVariableSupplier implements IVariableSupplier {
-    private final ApplicationContext applicationContext;
+/**
+ * Supplies the variable beans from the application context, indexed by name when the context is refreshed.
+ */
+public class SpringVariableSupplier implements IVariableSupplier, ApplicationListener<ContextRefreshedEvent> {
+    private final BlockBeanRegistry<IVariable> registry;
+
+    public SpringVariableSupplier(ApplicationContext applicationContext) {
+        this.registry = new BlockBeanRegistry<>(applicationContext, IVariable.class, "Variable");
+    }
 
     @Override
     public IVariable getVariable(String name) {
-        try {
-            if (name.endsWith("Variable")) {
-                return applicationContext.getBean(name, IVariable.class);
-            }
-            var variableName = "%sVariable".formatted(name);
-            return applicationContext.getBean(variableName, IVariable.class);
-        } catch (NoSuchBeanDefinitionException e) {
-            log.error("Bean {} not found", name, e);
-            throw new VariableNotFoundException(name);
-        }
+        var variable = registry.get(name);
+        if (variable == null) throw new VariableNotFoundException(name);
+        return variable;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        registry.refresh(event.getApplicationContext());
     }
 }
\ No newline at end of file
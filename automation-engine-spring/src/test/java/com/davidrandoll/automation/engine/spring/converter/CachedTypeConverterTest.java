@@ -0,0 +1,82 @@
+package com.davidrandoll.automation.engine.spring.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachedTypeConverterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CachedTypeConverter typeConverter = new CachedTypeConverter(objectMapper);
+
+    @Test
+    void convert_ShouldConvertMap() {
+        TestContext result = typeConverter.convert(Map.of("name", "test", "tags", List.of("a", "b")), TestContext.class);
+
+        assertThat(result.getName()).isEqualTo("test");
+        assertThat(result.getTags()).containsExactly("a", "b");
+    }
+
+    @Test
+    void convert_ShouldReadJsonNodeDirectly() {
+        var node = objectMapper.createObjectNode().put("name", "test");
+
+        TestContext result = typeConverter.convert(node, TestContext.class);
+
+        assertThat(result.getName()).isEqualTo("test");
+    }
+
+    @Test
+    void convert_ShouldConvertRepeatedlyWithCachedReader() {
+        var reader = typeConverter.readerFor(TestContext.class);
+
+        TestContext first = typeConverter.convert(Map.of("name", "first"), TestContext.class);
+        TestContext second = typeConverter.convert(objectMapper.createObjectNode().put("name", "second"), TestContext.class);
+
+        assertThat(first.getName()).isEqualTo("first");
+        assertThat(second.getName()).isEqualTo("second");
+        assertThat(typeConverter.readerFor(TestContext.class)).isSameAs(reader);
+        assertThat(typeConverter.readerFor(OtherContext.class)).isNotSameAs(reader);
+    }
+
+    @Test
+    void convert_ShouldUseBlackbirdWithoutChangingApplicationMapper() {
+        var moduleId = new BlackbirdModule().getTypeId();
+
+        assertThat(typeConverter.getObjectMapper()).isNotSameAs(objectMapper);
+        assertThat(typeConverter.getObjectMapper().getRegisteredModuleIds()).contains(moduleId);
+        assertThat(objectMapper.getRegisteredModuleIds()).doesNotContain(moduleId);
+    }
+
+    @Test
+    void convert_ShouldReturnNullForNull() {
+        TestContext result = typeConverter.convert(null, TestContext.class);
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void convert_ShouldThrowIllegalArgumentForInvalidTree() {
+        var node = objectMapper.createObjectNode().set("tags", objectMapper.createObjectNode().put("a", 1));
+
+        assertThatThrownBy(() -> typeConverter.convert(node, TestContext.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Data
+    static class OtherContext {
+        private String name;
+    }
+
+    @Data
+    static class TestContext {
+        private String name;
+        private List<String> tags;
+    }
+}
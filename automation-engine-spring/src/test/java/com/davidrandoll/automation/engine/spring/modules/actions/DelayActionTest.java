@@ -0,0 +1,106 @@
+package com.davidrandoll.automation.engine.spring.modules.actions;
+
+import com.davidrandoll.automation.engine.core.Automation;
+import com.davidrandoll.automation.engine.spring.TestConfig;
+import com.davidrandoll.automation.engine.spring.modules.events.time_based.TimeBasedEvent;
+import com.davidrandoll.automation.engine.test.AutomationEngineTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestConfig.class)
+class DelayActionTest extends AutomationEngineTest {
+
+    @Test
+    void testDelayActionResumesRemainingActionsAfterDuration() throws InterruptedException {
+        var yaml = """
+                alias: Delay Between Actions
+                triggers:
+                  - trigger: time
+                    at: 09:00
+                actions:
+                  - action: logger
+                    message: "Before delay"
+                  - action: delay
+                    duration: PT0.2S
+                  - action: logger
+                    message: "After delay"
+                """;
+
+        Automation automation = factory.createAutomation("yaml", yaml);
+        engine.register(automation);
+
+        long startTime = System.currentTimeMillis();
+        engine.publishEvent(new TimeBasedEvent(LocalTime.of(9, 0)));
+
+        // the publisher is not held for the delay, the remaining action is resumed from the scheduler
+        assertThat(logAppender.getLoggedMessages())
+                .anyMatch(msg -> msg.contains("Before delay"))
+                .noneMatch(msg -> msg.contains("After delay"));
+        awaitLogged("After delay");
+        assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void testNestedDelayActionPausesSequenceOnThread() {
+        var yaml = """
+                alias: Nested Delay
+                triggers:
+                  - trigger: time
+                    at: 11:00
+                actions:
+                  - action: sequence
+                    actions:
+                      - action: delay
+                        duration: PT0.2S
+                      - action: logger
+                        message: "After nested delay"
+                """;
+
+        Automation automation = factory.createAutomation("yaml", yaml);
+        engine.register(automation);
+
+        long startTime = System.currentTimeMillis();
+        engine.publishEvent(new TimeBasedEvent(LocalTime.of(11, 0)));
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        assertThat(logAppender.getLoggedMessages())
+                .anyMatch(msg -> msg.contains("After nested delay"));
+        assertThat(elapsedTime).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void testDelayActionWithZeroDurationContinuesImmediately() {
+        var yaml = """
+                alias: Zero Delay
+                triggers:
+                  - trigger: time
+                    at: 10:00
+                actions:
+                  - action: delay
+                    duration: PT0S
+                  - action: logger
+                    message: "No delay"
+                """;
+
+        Automation automation = factory.createAutomation("yaml", yaml);
+        engine.register(automation);
+
+        engine.publishEvent(new TimeBasedEvent(LocalTime.of(10, 0)));
+
+        assertThat(logAppender.getLoggedMessages())
+                .anyMatch(msg -> msg.contains("No delay"));
+    }
+
+    private void awaitLogged(String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (logAppender.getLoggedMessages().stream().noneMatch(msg -> msg.contains(message))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(logAppender.getLoggedMessages()).anyMatch(msg -> msg.contains(message));
+    }
+}
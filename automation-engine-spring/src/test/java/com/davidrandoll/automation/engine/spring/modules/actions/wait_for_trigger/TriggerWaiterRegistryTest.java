@@ -0,0 +1,130 @@
+package com.davidrandoll.automation.engine.spring.modules.actions.wait_for_trigger;
+
+import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.core.triggers.BaseTriggerList;
+import com.davidrandoll.automation.engine.core.triggers.DeclaredEventTypes;
+import com.davidrandoll.automation.engine.core.triggers.IBaseTrigger;
+import com.davidrandoll.automation.engine.spring.modules.events.time_based.TimeBasedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.PayloadApplicationEvent;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TriggerWaiterRegistryTest {
+    private final TriggerWaiterRegistry registry = new TriggerWaiterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    void onApplicationEvent_ShouldCompleteWaiterWhenTriggerMatches() throws Exception {
+        var future = registry.register(triggers(trigger(DeclaredEventTypes.of(TimeBasedEvent.class), new AtomicInteger())), Duration.ofSeconds(10));
+
+        publish(new TimeBasedEvent(LocalTime.NOON));
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.getPendingCount()).isZero();
+    }
+
+    @Test
+    void onApplicationEvent_ShouldOnlyCheckWaitersDeclaringTheEventType() {
+        var checks = new AtomicInteger();
+        var future = registry.register(triggers(trigger(DeclaredEventTypes.ofNames("OtherEvent"), checks)), Duration.ofSeconds(10));
+
+        publish(new TimeBasedEvent(LocalTime.NOON));
+
+        assertThat(checks).hasValue(0);
+        assertThat(future).isNotDone();
+        assertThat(registry.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onApplicationEvent_ShouldCheckWaitersWithoutDeclaredTypesForEveryEvent() throws Exception {
+        var checks = new AtomicInteger();
+        var future = registry.register(triggers(trigger(DeclaredEventTypes.any(), checks)), Duration.ofSeconds(10));
+
+        publish(EventContext.of(new TimeBasedEvent(LocalTime.NOON)));
+
+        assertThat(checks).hasValue(1);
+        assertThat(future.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void register_ShouldCompleteWithFalseOnTimeout() throws Exception {
+        var future = registry.register(triggers(trigger(DeclaredEventTypes.ofNames("OtherEvent"), new AtomicInteger())), Duration.ofMillis(50));
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(registry.getPendingCount()).isZero();
+    }
+
+    @Test
+    void register_ShouldUnregisterWaiterWhenCancelled() {
+        var checks = new AtomicInteger();
+        var future = registry.register(triggers(trigger(DeclaredEventTypes.any(), checks)), Duration.ofSeconds(10));
+
+        future.cancel(false);
+        publish(new TimeBasedEvent(LocalTime.NOON));
+
+        assertThat(checks).hasValue(0);
+        assertThat(registry.getPendingCount()).isZero();
+    }
+
+    @Test
+    void register_ShouldNotIndexWaiterOnceClosed() {
+        registry.close();
+
+        assertThatThrownBy(() -> registry.register(triggers(trigger(DeclaredEventTypes.ofNames("OtherEvent"), new AtomicInteger())), Duration.ofSeconds(10)))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(registry.getPendingCount()).isZero();
+        assertThat(registry.getIndexedTypeCount()).isZero();
+    }
+
+    @Test
+    void register_ShouldDropEmptyIndexEntriesOnceWaitersComplete() throws Exception {
+        var first = registry.register(triggers(trigger(DeclaredEventTypes.of(TimeBasedEvent.class), new AtomicInteger())), Duration.ofSeconds(10));
+        var second = registry.register(triggers(trigger(DeclaredEventTypes.ofNames("OtherEvent"), new AtomicInteger())), Duration.ofSeconds(10));
+        assertThat(registry.getIndexedTypeCount()).isEqualTo(2);
+
+        publish(new TimeBasedEvent(LocalTime.NOON));
+        assertThat(first.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.getIndexedTypeCount()).isEqualTo(1);
+
+        second.cancel(false);
+        assertThat(registry.getIndexedTypeCount()).isZero();
+    }
+
+    private void publish(Object event) {
+        registry.onApplicationEvent(new PayloadApplicationEvent<>(this, event));
+    }
+
+    private static BaseTriggerList triggers(IBaseTrigger trigger) {
+        var triggers = new BaseTriggerList();
+        triggers.add(trigger);
+        return triggers;
+    }
+
+    private static IBaseTrigger trigger(DeclaredEventTypes declaredEventTypes, AtomicInteger checks) {
+        return new IBaseTrigger() {
+            @Override
+            public boolean isTriggered(EventContext eventContext) {
+                checks.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public DeclaredEventTypes getDeclaredEventTypes() {
+                return declaredEventTypes;
+            }
+        };
+    }
+}
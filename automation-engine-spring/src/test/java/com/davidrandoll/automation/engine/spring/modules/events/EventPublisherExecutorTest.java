@@ -0,0 +1,159 @@
+package com.davidrandoll.automation.engine.spring.modules.events;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventPublisherExecutorTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> ran = new CopyOnWriteArrayList<>();
+    private EventPublisherExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    @Test
+    void execute_CallerRuns_ShouldRunOnCallerWhenQueueIsFull() throws InterruptedException {
+        executor = new EventPublisherExecutor(1, 1, EventPublisherExecutor.OverflowPolicy.CALLER_RUNS, false);
+        occupyWorker();
+        executor.execute(() -> ran.add("queued"));
+
+        executor.execute(() -> ran.add(Thread.currentThread().getName()));
+
+        assertThat(ran).containsExactly(Thread.currentThread().getName());
+        assertThat(executor.getQueueDepth()).isEqualTo(1);
+        assertThat(executor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void execute_DropOldest_ShouldReplaceOldestQueuedEvent() throws InterruptedException {
+        executor = new EventPublisherExecutor(1, 1, EventPublisherExecutor.OverflowPolicy.DROP_OLDEST, false);
+        occupyWorker();
+        executor.execute(() -> ran.add("oldest"));
+
+        executor.execute(() -> ran.add("newest"));
+        release.countDown();
+        awaitIdle();
+
+        assertThat(ran).containsExactly("newest");
+        assertThat(executor.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_Block_ShouldWaitForRoomInQueue() throws InterruptedException {
+        executor = new EventPublisherExecutor(1, 1, EventPublisherExecutor.OverflowPolicy.BLOCK, false);
+        occupyWorker();
+        executor.execute(() -> ran.add("first"));
+
+        var publisher = Thread.ofPlatform().start(() -> executor.execute(() -> ran.add("second")));
+        publisher.join(200);
+        assertThat(publisher.isAlive()).isTrue();
+
+        release.countDown();
+        publisher.join(5000);
+        awaitIdle();
+
+        assertThat(ran).containsExactly("first", "second");
+    }
+
+    @Test
+    void execute_Block_ShouldNotStrandEventQueuedAfterShutdown() throws InterruptedException {
+        executor = new EventPublisherExecutor(1, 1, EventPublisherExecutor.OverflowPolicy.BLOCK, false);
+        occupyWorker();
+        executor.execute(() -> ran.add("first"));
+        var publisher = Thread.ofPlatform().start(() -> executor.execute(() -> ran.add("second")));
+        publisher.join(200);
+        assertThat(publisher.isAlive()).isTrue();
+
+        executor.close();
+        release.countDown();
+        publisher.join(5000);
+        awaitIdle();
+
+        assertThat(executor.getQueueDepth()).isZero();
+        assertThat(ran.contains("second") || executor.getDroppedCount() == 1).isTrue();
+    }
+
+    @Test
+    void withDefaults_ShouldQueueEveryEventWithoutDroppingOrRunningOnCaller() throws InterruptedException {
+        executor = EventPublisherExecutor.withDefaults();
+        occupyWorkers(Runtime.getRuntime().availableProcessors());
+
+        for (int i = 0; i < 20_000; i++) {
+            executor.execute(() -> ran.add(Thread.currentThread().getName()));
+        }
+        assertThat(ran).isEmpty();
+        release.countDown();
+        awaitIdle();
+
+        assertThat(executor.getOverflowPolicy()).isEqualTo(EventPublisherExecutor.OverflowPolicy.BLOCK);
+        assertThat(ran).hasSize(20_000).allMatch(name -> name.startsWith("ae-event-publisher-"));
+        assertThat(executor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void execute_VirtualThreads_ShouldPublishEveryEventOnItsOwnVirtualThread() throws InterruptedException {
+        executor = new EventPublisherExecutor(1, 1, EventPublisherExecutor.OverflowPolicy.DROP_OLDEST, true);
+        occupyWorker();
+        var virtual = new CopyOnWriteArrayList<Boolean>();
+
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> virtual.add(Thread.currentThread().isVirtual()));
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (virtual.size() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // the events run beside the one still holding its thread, instead of waiting in a queue of one
+        assertThat(virtual).hasSize(10).containsOnly(true);
+        assertThat(executor.getActiveCount()).isEqualTo(1);
+        assertThat(executor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void execute_ShouldCountEventsPublishedAfterClose() {
+        executor = new EventPublisherExecutor(1, 1, EventPublisherExecutor.OverflowPolicy.BLOCK, true);
+        executor.close();
+
+        executor.execute(() -> ran.add("late"));
+
+        assertThat(ran).isEmpty();
+        assertThat(executor.getDroppedCount()).isEqualTo(1);
+    }
+
+    private void occupyWorker() throws InterruptedException {
+        occupyWorkers(1);
+    }
+
+    private void occupyWorkers(int workers) throws InterruptedException {
+        var started = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((executor.getQueueDepth() > 0 || executor.getActiveCount() > 0) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
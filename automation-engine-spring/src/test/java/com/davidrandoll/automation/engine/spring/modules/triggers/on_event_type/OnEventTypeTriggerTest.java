@@ -37,6 +37,31 @@ class OnEventTypeTriggerTest extends AutomationEngineTest {
                 .anyMatch(msg -> msg.contains("Matched full event type"));
     }
 
+    @Test
+    void testTriggersWhenEventTypeMatchesIgnoringCase() {
+        var yaml = """
+                triggers:
+                  - trigger: onEventType
+                    eventType: com.example.myevent
+                actions:
+                  - action: logger
+                    message: "Matched event type ignoring case"
+                """;
+
+        Automation automation = factory.createAutomation("yaml", yaml);
+        engine.register(automation);
+
+        JsonNode event = json("""
+                {
+                  "eventType": "com.example.MyEvent"
+                }
+                """);
+        engine.publishEvent(new JsonEvent(event));
+
+        assertThat(logAppender.getLoggedMessages())
+                .anyMatch(msg -> msg.contains("Matched event type ignoring case"));
+    }
+
     @Test
     void testTriggersWhenEventNameMatches() {
         var yaml = """
@@ -0,0 +1,81 @@
+package com.davidrandoll.automation.engine.spring.spi;
+
+import com.davidrandoll.automation.engine.core.actions.ActionContext;
+import com.davidrandoll.automation.engine.creator.actions.ActionDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextBindingsTest {
+    private final Object binder = new Object();
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    @Test
+    void bind_ShouldConvertOncePerBlockForSameData() {
+        var definitionContext = new ActionContext(definition(Map.of("message", "hello")));
+
+        // Each execution works on its own copy of the context, sharing the block's data
+        var first = bind(new ActionContext(definitionContext, definitionContext.getData()));
+        var second = bind(new ActionContext(definitionContext, definitionContext.getData()));
+
+        assertThat(second).isSameAs(first);
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    void bind_ShouldConvertAgainWhenDataIsRendered() {
+        var context = new ActionContext(definition(Map.of("message", "{{ name }}")));
+
+        var first = bind(context.changeData(new HashMap<>(Map.of("message", "hello"))));
+        var second = bind(context.changeData(new HashMap<>(Map.of("message", "hello"))));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(conversions).hasValue(2);
+    }
+
+    @Test
+    void bind_ShouldKeepBlocksOfEqualDefinitionsApart() {
+        var first = bind(new ActionContext(definition(Map.of("message", "hello"))));
+        var second = bind(new ActionContext(definition(Map.of("message", "hello"))));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(conversions).hasValue(2);
+    }
+
+    @Test
+    void bind_ShouldConvertContextsWithoutDefinitionEveryTime() {
+        var context = new ActionContext("alias", null, "logger", Map.of("message", "hello"));
+
+        bind(context);
+        bind(context);
+
+        assertThat(conversions).hasValue(2);
+    }
+
+    @Test
+    void bind_ShouldNotCacheFailedConversions() {
+        var context = new ActionContext(definition(Map.of()));
+
+        var failed = ContextBindings.bind(binder, context.getBlockCache(), context.getData(), () -> null);
+        var bound = bind(context);
+
+        assertThat(failed).isNull();
+        assertThat(bound).isNotNull();
+        assertThat(conversions).hasValue(1);
+    }
+
+    private Object bind(ActionContext context) {
+        return ContextBindings.bind(binder, context.getBlockCache(), context.getData(), () -> {
+            conversions.incrementAndGet();
+            return new Object();
+        });
+    }
+
+    private ActionDefinition definition(Map<String, Object> params) {
+        return ActionDefinition.builder().action("logger").params(new HashMap<>(params)).build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.davidrandoll.automation.engine.spring.suppliers;
+
+import com.davidrandoll.automation.engine.core.actions.ActionContext;
+import com.davidrandoll.automation.engine.core.actions.IAction;
+import com.davidrandoll.automation.engine.core.events.EventContext;
+import com.davidrandoll.automation.engine.creator.actions.ActionNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpringActionSupplierTest {
+    private GenericApplicationContext context;
+    private SpringActionSupplier supplier;
+
+    @BeforeEach
+    void setUp() {
+        context = new GenericApplicationContext();
+        context.registerBean("logAction", IAction.class, TestAction::new);
+        context.registerBean("log", IAction.class, TestAction::new);
+        context.registerBean(SpringActionSupplier.class, () -> new SpringActionSupplier(context));
+        context.refresh();
+        supplier = context.getBean(SpringActionSupplier.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void getAction_ShouldResolveNameWithAndWithoutSuffix() {
+        var expected = context.getBean("logAction", IAction.class);
+
+        assertThat(supplier.getAction("log")).isSameAs(expected);
+        assertThat(supplier.getAction("logAction")).isSameAs(expected);
+    }
+
+    @Test
+    void getAction_ShouldThrowForUnknownName() {
+        assertThatThrownBy(() -> supplier.getAction("unknown"))
+                .isInstanceOf(ActionNotFoundException.class);
+        assertThatThrownBy(() -> supplier.getAction("unknown"))
+                .isInstanceOf(ActionNotFoundException.class);
+    }
+
+    @Test
+    void getAction_ShouldFindBeansRegisteredAfterRefreshOnceRefreshedAgain() {
+        assertThatThrownBy(() -> supplier.getAction("late"))
+                .isInstanceOf(ActionNotFoundException.class);
+
+        context.registerBean("lateAction", IAction.class, TestAction::new);
+        assertThatThrownBy(() -> supplier.getAction("late"))
+                .isInstanceOf(ActionNotFoundException.class);
+
+        supplier.onApplicationEvent(new ContextRefreshedEvent(context));
+        assertThat(supplier.getAction("late")).isSameAs(context.getBean("lateAction"));
+    }
+
+    private static class TestAction implements IAction {
+        @Override
+        public void execute(EventContext context, ActionContext actionContext) {
+        }
+
+        @Override
+        public Class<?> getContextType() {
+            return ActionContext.class;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.davidrandoll.automation.engine.templating;
 
 import com.davidrandoll.automation.engine.templating.interceptors.*;
 import com.davidrandoll.automation.engine.templating.pebbles.PebbleTemplateEngine;
+import com.davidrandoll.automation.engine.templating.pebbles.PebbleVariableAnalyzer;
 import com.davidrandoll.automation.engine.templating.pebbles.extensions.AEPebbleExtension;
 import com.davidrandoll.automation.engine.templating.pebbles.extensions.filters.*;
 import com.davidrandoll.automation.engine.templating.spel.SpelTemplateEngine;
@@ -80,14 +81,20 @@ public class AETemplatingConfig {
 
     @Bean("pebble")
     @ConditionalOnMissingBean(name = "pebble", ignored = PebbleTemplateEngine.class)
-    public PebbleTemplateEngine pebbleTemplateEngine(PebbleEngine pebbleEngine) {
-        return new PebbleTemplateEngine(pebbleEngine);
+    public PebbleTemplateEngine pebbleTemplateEngine(PebbleEngine pebbleEngine, @Nullable PebbleVariableAnalyzer variableAnalyzer) {
+        return new PebbleTemplateEngine(pebbleEngine, variableAnalyzer);
+    }
+
+    @Bean("pebbleVariableAnalyzer")
+    @ConditionalOnMissingBean(name = "pebbleVariableAnalyzer", ignored = PebbleVariableAnalyzer.class)
+    public PebbleVariableAnalyzer pebbleVariableAnalyzer() {
+        return new PebbleVariableAnalyzer();
     }
 
     @Bean("spel")
     @ConditionalOnMissingBean(name = "spel", ignored = SpelTemplateEngine.class)
-    public SpelTemplateEngine spelTemplateEngine() {
-        return new SpelTemplateEngine();
+    public SpelTemplateEngine spelTemplateEngine(AETemplatingProperties properties) {
+        return new SpelTemplateEngine(properties.getSpelCompilerMode(), properties.getSpelCacheSize());
     }
 
     @Bean(name = "templateProcessor")
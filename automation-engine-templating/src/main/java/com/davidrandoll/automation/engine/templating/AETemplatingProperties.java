@@ -1,7 +1,9 @@
 package com.davidrandoll.automation.engine.templating;
 
+import com.davidrandoll.automation.engine.templating.spel.SpelTemplateEngine;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 @Data
 @ConfigurationProperties(prefix = "automation-engine.templating")
@@ -12,4 +14,16 @@ public class AETemplatingProperties {
      * Defaults to "pebble".
      */
     private String defaultEngine = "pebble";
+
+    /**
+     * Maximum number of parsed SpEL templates kept in memory.
+     * Defaults to 1024.
+     */
+    private int spelCacheSize = SpelTemplateEngine.DEFAULT_CACHE_SIZE;
+
+    /**
+     * Whether SpEL templates are compiled to bytecode: OFF, IMMEDIATE or MIXED.
+     * Defaults to OFF.
+     */
+    private SpelCompilerMode spelCompilerMode = SpelCompilerMode.OFF;
 }
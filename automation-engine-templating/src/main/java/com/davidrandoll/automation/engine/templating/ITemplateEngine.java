@@ -1,6 +1,8 @@
 package com.davidrandoll.automation.engine.templating;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Interface for templating engines.
@@ -15,4 +17,26 @@ public interface ITemplateEngine {
      * @return The rendered template as an Object (String for Pebble, Object for SpEL).
      */
     Object process(String templateString, Map<String, Object> variables);
+
+    /**
+     * Tells whether a string contains any template markup. Strings without markup render to themselves, so they
+     * don't need to go through {@link #process(String, Map)}.
+     *
+     * @param templateString The string to check.
+     * @return true if the string may contain template markup.
+     */
+    default boolean isTemplate(String templateString) {
+        return true;
+    }
+
+    /**
+     * Tells which variables a template can read, so only those have to be handed to {@link #process(String, Map)}.
+     * The result may name variables the template doesn't read, but never leaves out one it does.
+     *
+     * @param templateString The template to analyze.
+     * @return the names of the variables the template can read, or empty if the engine cannot tell.
+     */
+    default Optional<Set<String>> getReferencedVariables(String templateString) {
+        return Optional.empty();
+    }
 }
\ No newline at end of file
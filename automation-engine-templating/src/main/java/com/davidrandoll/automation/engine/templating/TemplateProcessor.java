@@ -1,11 +1,13 @@
 package com.davidrandoll.automation.engine.templating;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.davidrandoll.automation.engine.templating.utils.NormalizedVariables;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A service for processing templates using the Pebble templating engine.
@@ -33,11 +35,44 @@ public class TemplateProcessor {
     }
 
     public Object process(String templateString, Map<String, Object> variables, String templatingType) {
-        // Copy variables to ensure compatibility with the templating engine
+        // Normalize variables to ensure compatibility with the templating engine
         // Some engines like Pebble may have issues with certain data structures (like JsonNode)
-        Map<String, Object> processedVariables = mapper.convertValue(variables, new TypeReference<>() {
-        });
+        Map<String, Object> processedVariables = NormalizedVariables.of(variables, mapper);
 
+        ITemplateEngine engine = resolveEngine(templatingType);
+        Map<String, Object> templateVariables = engine.getReferencedVariables(templateString)
+                .map(names -> select(processedVariables, names))
+                .orElse(processedVariables);
+        return engine.process(templateString, templateVariables);
+    }
+
+    /**
+     * Tells whether a string needs to be rendered by the given templating engine.
+     * Strings without any template markup render to themselves, so callers can skip processing them.
+     *
+     * @param templateString The string to check.
+     * @param templatingType The templating engine the string would be processed with.
+     * @return true if the string may contain template markup.
+     */
+    public boolean isTemplate(String templateString, String templatingType) {
+        return templateString != null && resolveEngine(templatingType).isTemplate(templateString);
+    }
+
+    /**
+     * Builds the variables of a template from the names it references, so only those are converted.
+     */
+    private static Map<String, Object> select(Map<String, Object> variables, Set<String> names) {
+        if (variables == null) return null;
+        Map<String, Object> selected = HashMap.newHashMap(names.size());
+        for (String name : names) {
+            if (variables.containsKey(name)) {
+                selected.put(name, variables.get(name));
+            }
+        }
+        return selected;
+    }
+
+    private ITemplateEngine resolveEngine(String templatingType) {
         // Try exact match first, then case-insensitive match
         ITemplateEngine engine = engines.get(templatingType);
         if (engine == null && templatingType != null) {
@@ -48,7 +83,7 @@ public class TemplateProcessor {
                     .findFirst()
                     .orElse(null);
         }
-        
+
         // Fallback to default engine
         if (engine == null) {
             engine = engines.get(defaultEngine);
@@ -58,6 +93,6 @@ public class TemplateProcessor {
             throw new IllegalArgumentException("No templating engine found for type: " + templatingType + " and default engine: " + defaultEngine);
         }
 
-        return engine.process(templateString, processedVariables);
+        return engine;
     }
 }
\ No newline at end of file
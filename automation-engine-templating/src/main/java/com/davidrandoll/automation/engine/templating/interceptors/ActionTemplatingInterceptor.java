@@ -57,7 +57,8 @@ public class ActionTemplatingInterceptor implements IActionInterceptor {
         }
 
         String templatingType = processor.getTemplatingType(eventContext, actionContext.getOptions());
-        var mapCopy = processor.processIfNotAutomation(eventData, actionContext.getData(), templatingType);
+        var mapCopy = processor.processIfNotAutomation(eventData, actionContext.getData(), templatingType,
+                actionContext.getBlockCache());
         chain.execute(eventContext, actionContext.changeData(mapCopy));
         log.debug("ActionTemplatingInterceptor done.");
     }
@@ -43,7 +43,8 @@ public class ConditionTemplatingInterceptor implements IConditionInterceptor {
         }
 
         String templatingType = processor.getTemplatingType(eventContext, conditionContext.getOptions());
-        var mapCopy = processor.processIfNotAutomation(eventData, conditionContext.getData(), templatingType);
+        var mapCopy = processor.processIfNotAutomation(eventData, conditionContext.getData(), templatingType,
+                conditionContext.getBlockCache());
         var result = chain.isSatisfied(eventContext, conditionContext.changeData(mapCopy));
         log.debug("ConditionTemplatingInterceptor: Condition data processed successfully.");
         return result;
@@ -43,7 +43,8 @@ public class TriggerTemplatingInterceptor implements ITriggerInterceptor {
         }
 
         String templatingType = processor.getTemplatingType(eventContext, triggerContext.getOptions());
-        var mapCopy = processor.processIfNotAutomation(eventData, triggerContext.getData(), templatingType);
+        var mapCopy = processor.processIfNotAutomation(eventData, triggerContext.getData(), templatingType,
+                triggerContext.getBlockCache());
         var result = chain.isTriggered(eventContext, triggerContext.changeData(mapCopy));
         log.debug("TriggerTemplatingInterceptor: Trigger data processed successfully.");
         return result;
@@ -45,7 +45,8 @@ public class VariableTemplatingInterceptor implements IVariableInterceptor {
         }
 
         String templatingType = processor.getTemplatingType(eventContext, variableContext.getOptions());
-        var mapCopy = processor.processIfNotAutomation(eventData, variableContext.getData(), templatingType);
+        var mapCopy = processor.processIfNotAutomation(eventData, variableContext.getData(), templatingType,
+                variableContext.getBlockCache());
         chain.resolve(eventContext, variableContext.changeData(mapCopy));
         log.debug("VariableTemplatingInterceptor: Variable data processed successfully.");
     }
@@ -2,19 +2,34 @@ package com.davidrandoll.automation.engine.templating.pebbles;
 
 import com.davidrandoll.automation.engine.templating.ITemplateEngine;
 import io.pebbletemplates.pebble.PebbleEngine;
+import io.pebbletemplates.pebble.lexer.Syntax;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
-import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of {@link ITemplateEngine} using the Pebble templating engine.
+ * <p>
+ * With a {@link PebbleVariableAnalyzer} registered on the engine, templates report the variables they reference, so
+ * only those are handed to them.
+ * </p>
  */
-@RequiredArgsConstructor
 public class PebbleTemplateEngine implements ITemplateEngine {
     private final PebbleEngine pebbleEngine;
+    private final PebbleVariableAnalyzer variableAnalyzer;
+
+    public PebbleTemplateEngine(PebbleEngine pebbleEngine) {
+        this(pebbleEngine, null);
+    }
+
+    public PebbleTemplateEngine(PebbleEngine pebbleEngine, PebbleVariableAnalyzer variableAnalyzer) {
+        this.pebbleEngine = pebbleEngine;
+        this.variableAnalyzer = variableAnalyzer;
+    }
 
     @Override
     public String process(String templateString, Map<String, Object> variables) {
@@ -28,4 +43,24 @@ public class PebbleTemplateEngine implements ITemplateEngine {
             throw new RuntimeException("Error processing Pebble template", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isTemplate(String templateString) {
+        Syntax syntax = pebbleEngine.getSyntax();
+        return templateString.contains(syntax.getPrintOpenDelimiter())
+                || templateString.contains(syntax.getExecuteOpenDelimiter())
+                || templateString.contains(syntax.getCommentOpenDelimiter());
+    }
+
+    @Override
+    public Optional<Set<String>> getReferencedVariables(String templateString) {
+        if (variableAnalyzer == null) return Optional.empty();
+        try {
+            // The template is compiled and cached here, and analyzed as it is compiled
+            return variableAnalyzer.referencedVariables(pebbleEngine.getLiteralTemplate(templateString));
+        } catch (RuntimeException e) {
+            // Let processing report the error
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.davidrandoll.automation.engine.templating.pebbles;
+
+import io.pebbletemplates.pebble.extension.AbstractNodeVisitor;
+import io.pebbletemplates.pebble.extension.NodeVisitor;
+import io.pebbletemplates.pebble.extension.NodeVisitorFactory;
+import io.pebbletemplates.pebble.node.*;
+import io.pebbletemplates.pebble.node.expression.*;
+import io.pebbletemplates.pebble.template.PebbleTemplate;
+import io.pebbletemplates.pebble.template.PebbleTemplateImpl;
+
+import java.util.*;
+
+/**
+ * Finds the variables a compiled Pebble template can read from its context.
+ * <p>
+ * Pebble runs the visitors of its extensions once per compiled template, so registering this factory on the engine
+ * analyzes every template as it is compiled and keeps the result with the template instance. Every context variable
+ * is collected, which may include names that are only set inside the template (like a loop variable); a few extra
+ * names are harmless. When the template reads the context as a whole ({@code _context}), defines macros, includes,
+ * imports or extends other templates, or uses a node or expression this analyzer does not know, its variables are
+ * unknown.
+ * </p>
+ */
+public class PebbleVariableAnalyzer implements NodeVisitorFactory {
+    private final Map<PebbleTemplate, Optional<Set<String>>> results = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public NodeVisitor createVisitor(PebbleTemplate template) {
+        return new VariableCollector((PebbleTemplateImpl) template);
+    }
+
+    /**
+     * @return the names of the variables the template can read, or empty if they cannot be determined or the template
+     * was not compiled by an engine this factory is registered on
+     */
+    public Optional<Set<String>> referencedVariables(PebbleTemplate template) {
+        return results.getOrDefault(template, Optional.empty());
+    }
+
+    private class VariableCollector extends AbstractNodeVisitor {
+        private final Set<String> names = new HashSet<>();
+        private boolean unknown;
+
+        private VariableCollector(PebbleTemplateImpl template) {
+            super(template);
+        }
+
+        @Override
+        public void visit(RootNode node) {
+            super.visit(node);
+            results.put(getTemplate(), unknown ? Optional.empty() : Optional.of(Set.copyOf(names)));
+        }
+
+        @Override
+        public void visit(MacroNode node) {
+            unknown = true;
+        }
+
+        @Override
+        public void visit(IncludeNode node) {
+            unknown = true;
+        }
+
+        @Override
+        public void visit(ImportNode node) {
+            unknown = true;
+        }
+
+        @Override
+        public void visit(ExtendsNode node) {
+            unknown = true;
+        }
+
+        /**
+         * Pebble's visitor does not descend into expressions, and dispatches the nodes it has no method for here
+         */
+        @Override
+        public void visit(Node node) {
+            if (unknown || node == null) return;
+            switch (node) {
+                case ContextVariableExpression variable -> {
+                    if ("_context".equals(variable.getName())) unknown = true;
+                    else names.add(variable.getName());
+                }
+                case GetAttributeExpression attribute -> {
+                    visit(attribute.getNode());
+                    visit(attribute.getAttributeNameExpression());
+                    accept(attribute.getArgumentsNode());
+                }
+                case BinaryExpression<?> binary -> {
+                    visit(binary.getLeftExpression());
+                    visit(binary.getRightExpression());
+                }
+                case RenderableNodeExpression renderable -> accept(renderable.getNode());
+                case UnaryExpression unary -> visit(unary.getChildExpression());
+                case TernaryExpression ternary -> {
+                    visit(ternary.getExpression1());
+                    visit(ternary.getExpression2());
+                    visit(ternary.getExpression3());
+                }
+                case FilterInvocationExpression filter -> accept(filter.getArgs());
+                case TestInvocationExpression test -> accept(test.getArgs());
+                case FunctionOrMacroInvocationExpression function -> accept(function.getArguments());
+                case BlockFunctionExpression block -> visit(block.getBlockNameExpression());
+                case ArrayExpression array -> array.getValues().forEach(this::visit);
+                case MapExpression map -> map.getEntries().forEach((key, value) -> {
+                    visit(key);
+                    visit(value);
+                });
+                case LiteralStringExpression ignored -> {
+                }
+                case LiteralIntegerExpression ignored -> {
+                }
+                case LiteralLongExpression ignored -> {
+                }
+                case LiteralDoubleExpression ignored -> {
+                }
+                case LiteralBigDecimalExpression ignored -> {
+                }
+                case LiteralBooleanExpression ignored -> {
+                }
+                case LiteralNullExpression ignored -> {
+                }
+                default -> unknown = true;
+            }
+        }
+
+        private void accept(Node node) {
+            if (node != null) node.accept(this);
+        }
+    }
+}
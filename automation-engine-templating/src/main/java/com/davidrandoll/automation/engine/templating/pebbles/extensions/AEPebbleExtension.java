@@ -22,4 +22,9 @@ public class AEPebbleExtension extends AbstractExtension {
     private final Map<String, Function> functions;
     private final List<NodeVisitorFactory> nodeVisitorFactories;
     private final List<AttributeResolver> attributeResolvers;
+
+    @Override
+    public List<NodeVisitorFactory> getNodeVisitors() {
+        return nodeVisitorFactories;
+    }
 }
\ No newline at end of file
@@ -4,11 +4,21 @@ import com.davidrandoll.automation.engine.templating.ITemplateEngine;
 import org.springframework.context.expression.MapAccessor;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.MethodResolver;
 import org.springframework.expression.ParserContext;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of {@link ITemplateEngine} using Spring Expression Language (SpEL).
@@ -19,15 +29,66 @@ import java.util.Map;
  * <p>
  * When the template is a pure expression (e.g., "#{someVar}"), it returns the native type.
  * When the template contains mixed literal text and expressions (e.g., "Hello #{name}!"), it returns a String.
+ * <p>
+ * Parsed expressions are cached by template text, along with the variables they reference, and the property accessors and method resolvers are shared
+ * between evaluations so their reflection caches stay warm. With a {@link SpelCompilerMode} other than
+ * {@link SpelCompilerMode#OFF}, hot expressions are also compiled to bytecode.
  */
 public class SpelTemplateEngine implements ITemplateEngine {
-    private final ExpressionParser parser = new SpelExpressionParser();
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static final List<PropertyAccessor> PROPERTY_ACCESSORS = List.of(new MapAccessor(), new ReflectivePropertyAccessor());
+    private static final List<MethodResolver> METHOD_RESOLVERS = List.of(new ReflectiveMethodResolver());
+
+    private final ExpressionParser parser;
+    private final int maxCachedExpressions;
+    private final Map<String, ParsedTemplate> templates = new ConcurrentHashMap<>();
+
+    public SpelTemplateEngine() {
+        this(SpelCompilerMode.OFF, DEFAULT_CACHE_SIZE);
+    }
+
+    public SpelTemplateEngine(SpelCompilerMode compilerMode, int maxCachedExpressions) {
+        this.parser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, getClass().getClassLoader()));
+        this.maxCachedExpressions = maxCachedExpressions > 0 ? maxCachedExpressions : DEFAULT_CACHE_SIZE;
+    }
 
     @Override
     public Object process(String templateString, Map<String, Object> variables) {
         StandardEvaluationContext context = new StandardEvaluationContext(variables);
-        context.addPropertyAccessor(new MapAccessor());
+        context.setPropertyAccessors(PROPERTY_ACCESSORS);
+        context.setMethodResolvers(METHOD_RESOLVERS);
+        return getTemplate(templateString).expression().getValue(context, Object.class);
+    }
+
+    @Override
+    public Optional<Set<String>> getReferencedVariables(String templateString) {
+        return getTemplate(templateString).referencedVariables();
+    }
+
+    @Override
+    public boolean isTemplate(String templateString) {
+        return templateString.contains(ParserContext.TEMPLATE_EXPRESSION.getExpressionPrefix());
+    }
+
+    private ParsedTemplate getTemplate(String templateString) {
+        ParsedTemplate template = templates.get(templateString);
+        if (template != null) return template;
+
         Expression expression = parser.parseExpression(templateString, ParserContext.TEMPLATE_EXPRESSION);
-        return expression.getValue(context, Object.class);
+        template = new ParsedTemplate(expression, SpelVariableAnalyzer.referencedVariables(expression));
+        // Templates are a fixed set in practice; when that assumption breaks, start over rather than grow unbounded
+        if (templates.size() >= maxCachedExpressions) {
+            templates.clear();
+        }
+        templates.put(templateString, template);
+        return template;
+    }
+
+    int getCachedExpressionCount() {
+        return templates.size();
+    }
+
+    private record ParsedTemplate(Expression expression, Optional<Set<String>> referencedVariables) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package com.davidrandoll.automation.engine.templating.spel;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.Indexer;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Finds the variables a parsed SpEL template can read from its root map.
+ * <p>
+ * Every property name in the template is collected, which may include names that are not read from the root (like
+ * {@code path} in {@code event.path}); a few extra names are harmless. When the template uses the root map itself
+ * (a method call or an index on the root, {@code #root} or {@code #this}), its variables are unknown.
+ * </p>
+ */
+final class SpelVariableAnalyzer {
+    private SpelVariableAnalyzer() {
+    }
+
+    /**
+     * @return the names of the variables the template can read, or empty if they cannot be determined
+     */
+    static Optional<Set<String>> referencedVariables(Expression expression) {
+        Set<String> names = new HashSet<>();
+        return collect(expression, names) ? Optional.of(Set.copyOf(names)) : Optional.empty();
+    }
+
+    private static boolean collect(Expression expression, Set<String> names) {
+        return switch (expression) {
+            case LiteralExpression ignored -> true;
+            case SpelExpression spelExpression -> collect(spelExpression.getAST(), false, names);
+            case CompositeStringExpression composite -> {
+                for (Expression part : composite.getExpressions()) {
+                    if (!collect(part, names)) yield false;
+                }
+                yield true;
+            }
+            default -> false;
+        };
+    }
+
+    private static boolean collect(SpelNode node, boolean dereferenced, Set<String> names) {
+        switch (node) {
+            case PropertyOrFieldReference property -> names.add(property.getName());
+            case MethodReference ignored when !dereferenced -> {
+                return false;
+            }
+            case Indexer ignored when !dereferenced -> {
+                return false;
+            }
+            case VariableReference variable when isRootReference(variable) -> {
+                return false;
+            }
+            default -> {
+            }
+        }
+
+        for (int i = 0; i < node.getChildCount(); i++) {
+            // Apart from the first one, the steps of a compound expression are applied to the previous step's value
+            boolean childDereferenced = node instanceof CompoundExpression && i > 0;
+            if (!collect(node.getChild(i), childDereferenced, names)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isRootReference(VariableReference variable) {
+        String text = variable.toStringAST();
+        return "#root".equals(text) || "#this".equals(text);
+    }
+}
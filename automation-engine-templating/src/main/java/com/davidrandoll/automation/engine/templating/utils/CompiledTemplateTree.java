@@ -0,0 +1,138 @@
+package com.davidrandoll.automation.engine.templating.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+
+/**
+ * Block data compiled once for rendering with different variables.
+ * <p>
+ * The data is walked a single time: subtrees without any template are converted up front and shared, read-only,
+ * by every render, and only the templated strings are kept as leaves to render. Rendering then allocates the
+ * containers on the path to those leaves instead of rebuilding the whole data.
+ * </p>
+ */
+final class CompiledTemplateTree {
+    private final Node root;
+
+    private CompiledTemplateTree(Node root) {
+        this.root = root;
+    }
+
+    static CompiledTemplateTree compile(JsonNode data, String templatingType, JsonNodeVariableProcessor processor) {
+        return new CompiledTemplateTree(new Compiler(templatingType, processor).compile(data));
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> render(Map<String, Object> variables) {
+        return (Map<String, Object>) root.render(variables);
+    }
+
+    private sealed interface Node permits StaticNode, TemplateNode, ObjectTreeNode, ArrayTreeNode {
+        Object render(Map<String, Object> variables);
+    }
+
+    private record StaticNode(Object value) implements Node {
+        @Override
+        public Object render(Map<String, Object> variables) {
+            return value;
+        }
+    }
+
+    private record TemplateNode(String template, String templatingType,
+                                JsonNodeVariableProcessor processor) implements Node {
+        @Override
+        public Object render(Map<String, Object> variables) {
+            return processor.renderTemplate(variables, template, templatingType);
+        }
+    }
+
+    private record ObjectTreeNode(String[] names, Node[] children) implements Node {
+        @Override
+        public Object render(Map<String, Object> variables) {
+            Map<String, Object> result = LinkedHashMap.newLinkedHashMap(names.length);
+            for (int i = 0; i < names.length; i++) {
+                result.put(names[i], children[i].render(variables));
+            }
+            return result;
+        }
+    }
+
+    private record ArrayTreeNode(Node[] items) implements Node {
+        @Override
+        public Object render(Map<String, Object> variables) {
+            List<Object> result = new ArrayList<>(items.length);
+            for (Node item : items) {
+                result.add(item.render(variables));
+            }
+            return result;
+        }
+    }
+
+    private record Compiler(String templatingType, JsonNodeVariableProcessor processor) {
+        private Node compile(JsonNode node) {
+            if (node == null || node.isNull())
+                return new StaticNode(null);
+
+            if (node.isObject()) {
+                // Objects with automation fields are left as they are, like when the data is processed directly
+                if (processor.hasAutomationField(node))
+                    return staticNode(processor.toValue(node));
+
+                List<String> names = new ArrayList<>(node.size());
+                List<Node> children = new ArrayList<>(node.size());
+                node.fields().forEachRemaining(entry -> {
+                    names.add(entry.getKey());
+                    children.add("options".equals(entry.getKey())
+                            ? staticNode(processor.toValue(entry.getValue()))
+                            : compile(entry.getValue()));
+                });
+                if (children.stream().allMatch(StaticNode.class::isInstance)) {
+                    Map<String, Object> value = LinkedHashMap.newLinkedHashMap(names.size());
+                    for (int i = 0; i < names.size(); i++) {
+                        value.put(names.get(i), ((StaticNode) children.get(i)).value());
+                    }
+                    return new StaticNode(Collections.unmodifiableMap(value));
+                }
+                return new ObjectTreeNode(names.toArray(String[]::new), children.toArray(Node[]::new));
+            }
+
+            if (node.isArray()) {
+                List<Node> items = new ArrayList<>(node.size());
+                node.forEach(item -> items.add(compile(item)));
+                if (items.stream().allMatch(StaticNode.class::isInstance)) {
+                    List<Object> value = new ArrayList<>(items.size());
+                    items.forEach(item -> value.add(((StaticNode) item).value()));
+                    return new StaticNode(Collections.unmodifiableList(value));
+                }
+                return new ArrayTreeNode(items.toArray(Node[]::new));
+            }
+
+            if (node.isTextual() && processor.isTemplate(node.asText(), templatingType))
+                return new TemplateNode(node.asText(), templatingType, processor);
+
+            return staticNode(processor.renderStatic(node));
+        }
+
+        private static StaticNode staticNode(Object value) {
+            return new StaticNode(readOnly(value));
+        }
+
+        /**
+         * Static values are shared by every render, so they are made read-only all the way down.
+         */
+        private static Object readOnly(Object value) {
+            if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> copy = LinkedHashMap.newLinkedHashMap(map.size());
+                map.forEach((key, item) -> copy.put(key, readOnly(item)));
+                return Collections.unmodifiableMap(copy);
+            }
+            if (value instanceof List<?> list) {
+                List<Object> copy = new ArrayList<>(list.size());
+                list.forEach(item -> copy.add(readOnly(item)));
+                return Collections.unmodifiableList(copy);
+            }
+            return value;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.davidrandoll.automation.engine.templating.utils;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
 import com.davidrandoll.automation.engine.core.result.ResultContext;
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
 import com.davidrandoll.automation.engine.templating.AETemplatingProperties;
 import com.davidrandoll.automation.engine.templating.ContextOption;
 import com.davidrandoll.automation.engine.templating.TemplateProcessor;
@@ -18,6 +19,7 @@ import org.springframework.util.ObjectUtils;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -28,6 +30,9 @@ public class JsonNodeVariableProcessor {
     private final ObjectMapper mapper;
     private final AETemplatingProperties properties;
     private static final Set<String> AUTOMATION_FIELDS = Set.of("action", "variable", "condition", "trigger", "result");
+    // How a JSON value can start, including the lenient forms (single quotes, NaN, Infinity, +1, .5)
+    private static final String JSON_VALUE_START = "{[\"'-+.";
+    private static final List<String> JSON_KEYWORDS = List.of("true", "false", "null", "NaN", "Infinity");
 
     public Map<String, Object> processIfNotAutomation(Map<String, Object> eventData, Map<String, Object> map) {
         String templatingType = getTemplatingType(null, (Map<String, Object>) map.get("options"));
@@ -36,12 +41,41 @@ public class JsonNodeVariableProcessor {
 
     public Map<String, Object> processIfNotAutomation(Map<String, Object> eventData, Map<String, Object> map,
                                                       String templatingType) {
+        if (map == null)
+            return null;
         JsonNode node = mapper.valueToTree(map);
         node = processIfNotAutomation(eventData, node, templatingType);
         return mapper.convertValue(node, new TypeReference<>() {
         });
     }
 
+    /**
+     * Processes the data of a block, compiling it once for as long as the block is handed the same data.
+     * <p>
+     * The compiled data is kept in the block cache of the block's definition, so later executions only render its
+     * templates. Subtrees without any template are converted once and shared by every render, so they are returned
+     * as unmodifiable maps and lists; copy them before modifying them. Without a block cache the data is processed
+     * like {@link #processIfNotAutomation(Map, Map, String)} does, into new modifiable maps and lists.
+     * </p>
+     *
+     * @param eventData      the variables the templates are rendered with
+     * @param map            the data of the block
+     * @param templatingType the templating engine the data is rendered with
+     * @param blockCache     the block cache of the block's definition, or null if the block has none
+     * @return the rendered data
+     */
+    public Map<String, Object> processIfNotAutomation(Map<String, Object> eventData, Map<String, Object> map,
+                                                      String templatingType, BlockCache blockCache) {
+        if (map == null)
+            return null;
+        if (blockCache == null)
+            return processIfNotAutomation(eventData, map, templatingType);
+
+        CompiledTemplateTree tree = blockCache.derive(new CompiledTreeKey(this, templatingType), map,
+                data -> CompiledTemplateTree.compile(mapper.valueToTree(data), templatingType, this));
+        return tree.render(NormalizedVariables.of(eventData, mapper));
+    }
+
     public JsonNode processIfNotAutomation(Map<String, Object> eventData, JsonNode node) {
         return processIfNotAutomation(eventData, node, properties.getDefaultEngine());
     }
@@ -50,6 +84,9 @@ public class JsonNodeVariableProcessor {
         if (node == null || node.isNull())
             return node;
 
+        // Share one normalized view of the variables across all the fields of the block
+        Map<String, Object> variables = NormalizedVariables.of(eventData, mapper);
+
         if (node.isObject()) {
             // If the object has any automation-related fields, skip processing it entirely
             if (hasAutomationField(node))
@@ -62,7 +99,7 @@ public class JsonNodeVariableProcessor {
                 if ("options".equals(fieldName)) {
                     processedNode.set(fieldName, child);
                 } else {
-                    processedNode.set(fieldName, processIfNotAutomation(eventData, child, templatingType));
+                    processedNode.set(fieldName, processIfNotAutomation(variables, child, templatingType));
                 }
             });
             return processedNode;
@@ -71,13 +108,16 @@ public class JsonNodeVariableProcessor {
         if (node.isArray()) {
             ArrayNode processedArray = mapper.createArrayNode();
             for (JsonNode item : node) {
-                processedArray.add(processIfNotAutomation(eventData, item, templatingType));
+                processedArray.add(processIfNotAutomation(variables, item, templatingType));
             }
             return processedArray;
         }
 
         if (node.isTextual()) {
-            Object processedValue = templateProcessor.process(node.asText(), eventData, templatingType);
+            String text = node.asText();
+            if (!templateProcessor.isTemplate(text, templatingType))
+                return convertStaticText(node);
+            Object processedValue = templateProcessor.process(text, variables, templatingType);
             return convertObjectToJsonNode(processedValue);
         }
 
@@ -108,6 +148,38 @@ public class JsonNodeVariableProcessor {
         return mapper.valueToTree(value);
     }
 
+    /**
+     * Converts a string without any template markup. It renders to itself, so it only gets the same type
+     * coercion as a rendered string, and only when it can possibly be a JSON value.
+     *
+     * @param node the text node to convert
+     * @return the node itself, or the JsonNode the text parses to
+     */
+    private JsonNode convertStaticText(JsonNode node) {
+        String value = node.asText();
+        return mayBeJson(value) ? parseStringToJsonNode(value) : node;
+    }
+
+    /**
+     * Tells whether a string can parse to a JSON value other than text, judging by its first non-whitespace
+     * character. Most plain strings (names, URLs, queries) can be ruled out without running the parser.
+     */
+    private static boolean mayBeJson(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (Character.isLetter(c)) {
+                for (String keyword : JSON_KEYWORDS) {
+                    if (value.startsWith(keyword, i)) return true;
+                }
+                return false;
+            }
+            return JSON_VALUE_START.indexOf(c) >= 0 || Character.isDigit(c);
+        }
+        // Empty and blank strings keep going through the parser, which decides what they become
+        return true;
+    }
+
     /**
      * Parses a string value to the appropriate JsonNode type.
      * Attempts to parse as JSON to preserve numeric, boolean, array, and object
@@ -147,7 +219,30 @@ public class JsonNodeVariableProcessor {
         }
     }
 
-    private boolean hasAutomationField(JsonNode node) {
+    boolean isTemplate(String text, String templatingType) {
+        return templateProcessor.isTemplate(text, templatingType);
+    }
+
+    /**
+     * Renders a template to the value it would have in the processed data.
+     */
+    Object renderTemplate(Map<String, Object> variables, String template, String templatingType) {
+        Object processedValue = templateProcessor.process(template, variables, templatingType);
+        return toValue(convertObjectToJsonNode(processedValue));
+    }
+
+    /**
+     * Converts a value without any template to the value it would have in the processed data.
+     */
+    Object renderStatic(JsonNode node) {
+        return toValue(node.isTextual() ? convertStaticText(node) : node);
+    }
+
+    Object toValue(JsonNode node) {
+        return mapper.convertValue(node, Object.class);
+    }
+
+    boolean hasAutomationField(JsonNode node) {
         if (!node.isObject()) {
             return false;
         }
@@ -160,13 +255,18 @@ public class JsonNodeVariableProcessor {
     }
 
     public JsonNode processOnlyString(Map<String, Object> eventData, ResultContext resultContext) {
+        Map<String, Object> variables = NormalizedVariables.of(eventData, mapper);
         JsonNode jsonNodeCopy = resultContext.getData();
         for (Iterator<Map.Entry<String, JsonNode>> it = jsonNodeCopy.fields(); it.hasNext(); ) {
             var entry = it.next();
             if (entry.getValue().isTextual()) {
                 String valueStr = entry.getValue().asText();
+                if (!templateProcessor.isTemplate(valueStr, properties.getDefaultEngine())) {
+                    entry.setValue(convertStaticText(entry.getValue()));
+                    continue;
+                }
                 try {
-                    Object processedValue = templateProcessor.process(valueStr, eventData);
+                    Object processedValue = templateProcessor.process(valueStr, variables);
                     entry.setValue(convertObjectToJsonNode(processedValue));
                 } catch (IOException e) {
                     log.error("Error processing template for key: {}. Error: {}", entry.getKey(), e.getMessage());
@@ -177,6 +277,9 @@ public class JsonNodeVariableProcessor {
         return jsonNodeCopy;
     }
 
+    private record CompiledTreeKey(JsonNodeVariableProcessor processor, String templatingType) {
+    }
+
     public static class AutomationEngineProcessingException extends RuntimeException {
         public AutomationEngineProcessingException(Throwable cause) {
             super(cause);
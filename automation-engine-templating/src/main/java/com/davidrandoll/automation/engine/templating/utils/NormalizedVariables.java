@@ -0,0 +1,131 @@
+package com.davidrandoll.automation.engine.templating.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A view of template variables whose values are converted to plain Java types (maps, lists, primitives)
+ * the first time a template reads them.
+ * <p>
+ * Some engines like Pebble have issues with certain data structures (like JsonNode), so the variables have to be
+ * converted before rendering. Converting them lazily means a large event payload is only converted if a template
+ * actually dereferences it, and only once for all the templates rendered with views of the same variables. Nested
+ * maps are views too, so a template reading {@code event.path} doesn't convert the rest of the event.
+ * </p>
+ * <p>
+ * Values a template assigns (e.g. a SpEL assignment) are kept in the view they were written to, so they never
+ * leak into other templates.
+ * </p>
+ */
+public final class NormalizedVariables extends AbstractMap<String, Object> {
+    private static final Object NULL = new Object();
+
+    private final Map<String, Object> source;
+    private final ObjectMapper mapper;
+    private final Map<String, Object> converted;
+    private final Map<String, Object> written = new HashMap<>();
+
+    private NormalizedVariables(Map<String, Object> source, ObjectMapper mapper, Map<String, Object> converted) {
+        this.source = source;
+        this.mapper = mapper;
+        this.converted = converted;
+    }
+
+    /**
+     * @return a normalized view of the variables. A view of already normalized variables shares their converted
+     * values, but not the values written to them.
+     */
+    public static Map<String, Object> of(Map<String, Object> variables, ObjectMapper mapper) {
+        if (variables == null) return null;
+        if (variables instanceof NormalizedVariables normalized)
+            return new NormalizedVariables(normalized.source, normalized.mapper, normalized.converted);
+        return new NormalizedVariables(variables, mapper, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (written.containsKey(key)) return written.get(key);
+        if (!(key instanceof String name) || !source.containsKey(name)) return null;
+        Object value = converted.computeIfAbsent(name, k -> normalize(source.get(k)));
+        if (value instanceof NormalizedVariables nested) {
+            // A nested map gets its own view in this view, so values written to it stay here too
+            return written.computeIfAbsent(name, k -> of(nested, mapper));
+        }
+        return value == NULL ? null : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object normalize(Object value) {
+        if (value instanceof Map<?, ?> map && hasOnlyStringKeys(map)) {
+            return new NormalizedVariables((Map<String, Object>) map, mapper, new ConcurrentHashMap<>());
+        }
+        Object convertedValue = mapper.convertValue(value, Object.class);
+        return convertedValue == null ? NULL : convertedValue;
+    }
+
+    private static boolean hasOnlyStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        written.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return written.containsKey(key) || source.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return written.isEmpty() ? source.size() : keys().size();
+    }
+
+    private Set<String> keys() {
+        if (written.isEmpty()) return source.keySet();
+        Set<String> keys = new LinkedHashSet<>(source.keySet());
+        keys.addAll(written.keySet());
+        return keys;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<String> keys = keys().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        String key = keys.next();
+                        return new SimpleImmutableEntry<>(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return NormalizedVariables.this.size();
+            }
+        };
+    }
+}
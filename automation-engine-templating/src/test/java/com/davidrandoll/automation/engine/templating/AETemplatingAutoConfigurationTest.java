@@ -1,6 +1,7 @@
 package com.davidrandoll.automation.engine.templating;
 
 import com.davidrandoll.automation.engine.templating.interceptors.*;
+import com.davidrandoll.automation.engine.templating.pebbles.PebbleTemplateEngine;
 import com.davidrandoll.automation.engine.templating.utils.JsonNodeVariableProcessor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,6 +55,14 @@ class AETemplatingAutoConfigurationTest {
                 .as("ResultTemplatingInterceptor should be configured to process {{ ... }} templates in result values");
     }
 
+    @Test
+    void shouldAnalyzePebbleTemplateVariables() {
+        PebbleTemplateEngine bean = context.getBean(PebbleTemplateEngine.class);
+        assertThat(bean.getReferencedVariables("Hello {{ user.name }}"))
+                .as("PebbleTemplateEngine should be configured with the variable analyzer registered on the Pebble engine")
+                .hasValueSatisfying(names -> assertThat(names).contains("user"));
+    }
+
     @Test
     void shouldConfigureJsonNodeVariableProcessor() {
         JsonNodeVariableProcessor bean = context.getBean(JsonNodeVariableProcessor.class);
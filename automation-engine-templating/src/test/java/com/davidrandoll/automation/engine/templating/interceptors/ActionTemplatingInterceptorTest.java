@@ -49,11 +49,11 @@ class ActionTemplatingInterceptorTest {
         when(eventContext.getEventData(objectMapper)).thenReturn(eventData);
 
         when(processor.getTemplatingType(any(), any())).thenReturn("pebble");
-        when(processor.processIfNotAutomation(eq(eventData), eq(data), eq("pebble"))).thenReturn(data);
+        when(processor.processIfNotAutomation(eq(eventData), eq(data), eq("pebble"), eq(actionContext.getBlockCache()))).thenReturn(data);
 
         interceptor.intercept(eventContext, actionContext, chain);
 
-        verify(processor).processIfNotAutomation(eq(eventData), eq(data), eq("pebble"));
+        verify(processor).processIfNotAutomation(eq(eventData), eq(data), eq("pebble"), eq(actionContext.getBlockCache()));
         verify(chain).execute(eq(eventContext), any(ActionContext.class));
     }
 }
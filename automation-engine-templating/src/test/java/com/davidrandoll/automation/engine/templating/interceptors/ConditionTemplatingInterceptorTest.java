@@ -51,11 +51,11 @@ class ConditionTemplatingInterceptorTest {
         when(eventContext.getEventData(objectMapper)).thenReturn(eventData);
 
         when(processor.getTemplatingType(any(), any())).thenReturn("pebble");
-        when(processor.processIfNotAutomation(eq(eventData), eq(data), eq("pebble"))).thenReturn(data);
+        when(processor.processIfNotAutomation(eq(eventData), eq(data), eq("pebble"), eq(conditionContext.getBlockCache()))).thenReturn(data);
 
         interceptor.intercept(eventContext, conditionContext, chain);
 
-        verify(processor).processIfNotAutomation(eq(eventData), eq(data), eq("pebble"));
+        verify(processor).processIfNotAutomation(eq(eventData), eq(data), eq("pebble"), eq(conditionContext.getBlockCache()));
         verify(chain).isSatisfied(eq(eventContext), any(ConditionContext.class));
     }
 }
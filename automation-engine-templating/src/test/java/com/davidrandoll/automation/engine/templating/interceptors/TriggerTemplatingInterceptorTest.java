@@ -49,11 +49,11 @@ class TriggerTemplatingInterceptorTest {
         when(eventContext.getEventData(objectMapper)).thenReturn(eventData);
 
         when(processor.getTemplatingType(any(), any())).thenReturn("pebble");
-        when(processor.processIfNotAutomation(eq(eventData), eq(data), eq("pebble"))).thenReturn(data);
+        when(processor.processIfNotAutomation(eq(eventData), eq(data), eq("pebble"), eq(triggerContext.getBlockCache()))).thenReturn(data);
 
         interceptor.intercept(eventContext, triggerContext, chain);
 
-        verify(processor).processIfNotAutomation(eq(eventData), eq(data), eq("pebble"));
+        verify(processor).processIfNotAutomation(eq(eventData), eq(data), eq("pebble"), eq(triggerContext.getBlockCache()));
         verify(chain).isTriggered(eq(eventContext), any(TriggerContext.class));
     }
 
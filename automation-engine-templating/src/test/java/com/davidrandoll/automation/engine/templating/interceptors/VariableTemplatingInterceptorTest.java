@@ -49,11 +49,11 @@ class VariableTemplatingInterceptorTest {
         when(eventContext.getEventData(objectMapper)).thenReturn(eventData);
 
         when(processor.getTemplatingType(any(), any())).thenReturn("pebble");
-        when(processor.processIfNotAutomation(eq(eventData), eq(data), eq("pebble"))).thenReturn(data);
+        when(processor.processIfNotAutomation(eq(eventData), eq(data), eq("pebble"), eq(variableContext.getBlockCache()))).thenReturn(data);
 
         interceptor.intercept(eventContext, variableContext, chain);
 
-        verify(processor).processIfNotAutomation(eq(eventData), eq(data), eq("pebble"));
+        verify(processor).processIfNotAutomation(eq(eventData), eq(data), eq("pebble"), eq(variableContext.getBlockCache()));
         verify(chain).resolve(eq(eventContext), any(VariableContext.class));
     }
 }
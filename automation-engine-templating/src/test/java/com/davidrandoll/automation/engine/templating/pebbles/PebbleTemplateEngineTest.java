@@ -0,0 +1,70 @@
+package com.davidrandoll.automation.engine.templating.pebbles;
+
+import io.pebbletemplates.pebble.PebbleEngine;
+import io.pebbletemplates.pebble.extension.AbstractExtension;
+import io.pebbletemplates.pebble.extension.NodeVisitorFactory;
+import io.pebbletemplates.pebble.loader.StringLoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PebbleTemplateEngineTest {
+    private final PebbleVariableAnalyzer analyzer = new PebbleVariableAnalyzer();
+    private final PebbleTemplateEngine engine = new PebbleTemplateEngine(pebbleEngine(analyzer), analyzer);
+
+    @Test
+    void testReferencedVariablesOfTemplate() {
+        var referenced = engine.getReferencedVariables(
+                "Order {{ event.orderId }} for {{ customer.name | upper }}{% if total > limit %}!{% endif %}");
+
+        assertThat(referenced).isPresent();
+        assertThat(referenced.get()).contains("event", "customer", "total", "limit").doesNotContain("orderId", "name");
+    }
+
+    @Test
+    void testReferencedVariablesOfNestedExpressions() {
+        var referenced = engine.getReferencedVariables(
+                "{% for item in items %}{{ item[key] ~ (flag ? a : b) }}{% endfor %}{{ [first, {'k': second}] | json }}{{ max(x, y) }}");
+
+        assertThat(referenced).isPresent();
+        assertThat(referenced.get()).contains("items", "key", "flag", "a", "b", "first", "second", "x", "y");
+    }
+
+    @Test
+    void testReferencedVariablesAreUnknownWhenContextIsUsed() {
+        assertThat(engine.getReferencedVariables("{{ _context }}")).isEmpty();
+        assertThat(engine.getReferencedVariables("{% macro greet(name) %}Hi {{ name }}{% endmacro %}{{ greet(user) }}")).isEmpty();
+        assertThat(engine.getReferencedVariables("{% include 'other' %}")).isEmpty();
+        assertThat(engine.getReferencedVariables("Plain text")).contains(Set.of());
+    }
+
+    @Test
+    void testReferencedVariablesAreUnknownWithoutAnalyzer() {
+        var unanalyzed = new PebbleTemplateEngine(pebbleEngine(null));
+
+        assertThat(unanalyzed.getReferencedVariables("{{ name }}")).isEmpty();
+        assertThat(unanalyzed.process("{{ name }}", Map.of("name", "Alice"))).isEqualTo("Alice");
+    }
+
+    @Test
+    void testReferencedVariablesAreUnknownForInvalidTemplate() {
+        assertThat(engine.getReferencedVariables("{{ name ")).isEmpty();
+    }
+
+    private static PebbleEngine pebbleEngine(NodeVisitorFactory visitorFactory) {
+        var builder = new PebbleEngine.Builder().loader(new StringLoader()).autoEscaping(false);
+        if (visitorFactory != null) {
+            builder.extension(new AbstractExtension() {
+                @Override
+                public List<NodeVisitorFactory> getNodeVisitors() {
+                    return List.of(visitorFactory);
+                }
+            });
+        }
+        return builder.build();
+    }
+}
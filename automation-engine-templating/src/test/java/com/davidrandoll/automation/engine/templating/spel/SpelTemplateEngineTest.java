@@ -0,0 +1,77 @@
+package com.davidrandoll.automation.engine.templating.spel;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpelTemplateEngineTest {
+
+    @Test
+    void testRepeatedTemplateIsParsedOnce() {
+        var engine = new SpelTemplateEngine();
+
+        Object first = engine.process("Hello, #{name}!", Map.of("name", "Alice"));
+        Object second = engine.process("Hello, #{name}!", Map.of("name", "Bob"));
+
+        assertThat(first).isEqualTo("Hello, Alice!");
+        assertThat(second).isEqualTo("Hello, Bob!");
+        assertThat(engine.getCachedExpressionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        var engine = new SpelTemplateEngine(SpelCompilerMode.OFF, 2);
+
+        engine.process("#{a}", Map.of("a", 1));
+        engine.process("#{b}", Map.of("b", 2));
+        Object result = engine.process("#{c}", Map.of("c", 3));
+
+        assertThat(result).isEqualTo(3);
+        assertThat(engine.getCachedExpressionCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void testMixedCompilerModeKeepsResults() {
+        var engine = new SpelTemplateEngine(SpelCompilerMode.MIXED, 16);
+        Map<String, Object> variables = Map.of("user", Map.of("name", "Alice"), "numbers", List.of(1, 2, 3));
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(engine.process("#{user.name}", variables)).isEqualTo("Alice");
+            assertThat(engine.process("#{numbers.size() > 2}", variables)).isEqualTo(true);
+        }
+    }
+
+    @Test
+    void testPropertiesOfPlainObjectsAreResolved() {
+        var engine = new SpelTemplateEngine();
+
+        Object result = engine.process("#{text.length()}", Map.of("text", "hello"));
+
+        assertThat(result).isEqualTo(5);
+    }
+
+    @Test
+    void testReferencedVariablesOfTemplate() {
+        var engine = new SpelTemplateEngine();
+
+        var referenced = engine.getReferencedVariables("Order #{event.orderId} for #{customer.name.toUpperCase()}");
+
+        assertThat(referenced).isPresent();
+        assertThat(referenced.get()).contains("event", "customer").doesNotContain("toUpperCase");
+    }
+
+    @Test
+    void testReferencedVariablesAreUnknownWhenRootIsUsed() {
+        var engine = new SpelTemplateEngine();
+
+        assertThat(engine.getReferencedVariables("#{#root}")).isEmpty();
+        assertThat(engine.getReferencedVariables("#{['name']}")).isEmpty();
+        assertThat(engine.getReferencedVariables("#{containsKey('name')}")).isEmpty();
+        assertThat(engine.getReferencedVariables("Plain text")).contains(Set.of());
+    }
+}
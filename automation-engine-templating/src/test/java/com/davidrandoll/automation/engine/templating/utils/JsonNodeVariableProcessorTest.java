@@ -2,6 +2,7 @@ package com.davidrandoll.automation.engine.templating.utils;
 
 import com.davidrandoll.automation.engine.core.events.EventContext;
 import com.davidrandoll.automation.engine.core.result.ResultContext;
+import com.davidrandoll.automation.engine.core.utils.BlockCache;
 import com.davidrandoll.automation.engine.templating.AETemplatingProperties;
 import com.davidrandoll.automation.engine.templating.TemplateProcessor;
 import com.davidrandoll.automation.engine.templating.interceptors.AutomationOptionsInterceptor;
@@ -20,10 +21,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JsonNodeVariableProcessorTest {
@@ -38,6 +40,8 @@ class JsonNodeVariableProcessorTest {
     void setUp() {
         mapper = new ObjectMapper();
         processor = new JsonNodeVariableProcessor(templateProcessor, mapper, new AETemplatingProperties());
+        lenient().when(templateProcessor.isTemplate(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).matches(".*[{#]\\{.*"));
     }
 
     @Test
@@ -131,6 +135,74 @@ class JsonNodeVariableProcessorTest {
         assertEquals(123, result.get("number").asInt());
     }
 
+    @Test
+    void testProcessIfNotAutomation_StaticStringsSkipTemplating() {
+        Map<String, Object> eventData = new HashMap<>();
+        ObjectNode input = mapper.createObjectNode();
+        input.put("url", "https://example.com/orders");
+        input.put("count", "42");
+        input.put("flag", "true");
+        input.put("word", "falsehood");
+        input.put("queue", "orders-queue");
+
+        JsonNode result = processor.processIfNotAutomation(eventData, input);
+
+        verify(templateProcessor, never()).process(anyString(), any(), any());
+        assertSame(input.get("url"), result.get("url"));
+        assertSame(input.get("queue"), result.get("queue"));
+        assertEquals("falsehood", result.get("word").asText());
+        assertEquals(42, result.get("count").asInt());
+        assertTrue(result.get("count").isNumber());
+        assertTrue(result.get("flag").isBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testProcessIfNotAutomation_Map_CompilesDataOncePerBlock() {
+        Map<String, Object> eventData = new HashMap<>();
+        Map<String, Object> nested = Map.of("queue", "orders", "size", "10");
+        Map<String, Object> inputMap = Map.of("key", "{{ value }}", "nested", nested);
+        BlockCache blockCache = new BlockCache();
+
+        when(templateProcessor.process(eq("{{ value }}"), eq(eventData), anyString())).thenReturn("first", "second");
+
+        Map<String, Object> first = processor.processIfNotAutomation(eventData, inputMap, "pebble", blockCache);
+        Map<String, Object> second = processor.processIfNotAutomation(eventData, inputMap, "pebble", blockCache);
+
+        assertEquals("first", first.get("key"));
+        assertEquals("second", second.get("key"));
+        assertEquals(Map.of("queue", "orders", "size", 10), first.get("nested"));
+        assertSame(first.get("nested"), second.get("nested"));
+        assertThrows(UnsupportedOperationException.class, () -> ((Map<String, Object>) first.get("nested")).put("size", 11));
+        verify(templateProcessor, times(1)).isTemplate("orders", "pebble");
+    }
+
+    @Test
+    void testProcessIfNotAutomation_Map_RecompilesForOtherData() {
+        Map<String, Object> eventData = new HashMap<>();
+        BlockCache blockCache = new BlockCache();
+
+        Map<String, Object> first = processor.processIfNotAutomation(eventData, Map.of("queue", "orders"), "pebble", blockCache);
+        Map<String, Object> second = processor.processIfNotAutomation(eventData, Map.of("queue", "payments"), "pebble", blockCache);
+
+        assertEquals("orders", first.get("queue"));
+        assertEquals("payments", second.get("queue"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testProcessIfNotAutomation_Map_WithoutBlockCacheReturnsModifiableData() {
+        Map<String, Object> eventData = new HashMap<>();
+        Map<String, Object> inputMap = Map.of("nested", Map.of("queue", "orders"));
+
+        Map<String, Object> first = processor.processIfNotAutomation(eventData, inputMap, "pebble", null);
+        Map<String, Object> second = processor.processIfNotAutomation(eventData, inputMap, "pebble");
+        ((Map<String, Object>) first.get("nested")).put("queue", "payments");
+
+        assertEquals(Map.of("queue", "orders"), second.get("nested"));
+        verify(templateProcessor, times(2)).isTemplate("orders", "pebble");
+    }
+
     @Test
     void testGetTemplatingType() {
         // Test with explicit spel
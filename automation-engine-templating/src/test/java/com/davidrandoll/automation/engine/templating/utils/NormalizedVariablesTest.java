@@ -0,0 +1,96 @@
+package com.davidrandoll.automation.engine.templating.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NormalizedVariablesTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testValuesAreConvertedOnlyWhenRead() {
+        var conversions = new AtomicInteger();
+        Map<String, Object> source = new HashMap<>();
+        source.put("body", new Payload("large", conversions));
+        source.put("name", "Alice");
+
+        Map<String, Object> variables = NormalizedVariables.of(source, mapper);
+        assertThat(variables.get("name")).isEqualTo("Alice");
+        assertThat(conversions).hasValue(0);
+
+        assertThat(variables.get("body")).isEqualTo(Map.of("value", "large"));
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    void testViewsOfTheSameVariablesShareConversions() {
+        var conversions = new AtomicInteger();
+        Map<String, Object> shared = NormalizedVariables.of(Map.of("body", new Payload("large", conversions)), mapper);
+
+        NormalizedVariables.of(shared, mapper).get("body");
+        NormalizedVariables.of(shared, mapper).get("body");
+
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    void testNestedMapsAreConvertedOnlyWhereRead() {
+        var conversions = new AtomicInteger();
+        Map<String, Object> event = new HashMap<>();
+        event.put("path", "/orders");
+        event.put("body", new Payload("large", conversions));
+
+        Map<String, Object> variables = NormalizedVariables.of(Map.of("event", event), mapper);
+        Map<?, ?> nested = (Map<?, ?>) variables.get("event");
+
+        assertThat(nested.get("path")).isEqualTo("/orders");
+        assertThat(conversions).hasValue(0);
+    }
+
+    @Test
+    void testWritesStayInTheirView() {
+        Map<String, Object> shared = NormalizedVariables.of(Map.of("name", "Alice"), mapper);
+        Map<String, Object> first = NormalizedVariables.of(shared, mapper);
+        Map<String, Object> second = NormalizedVariables.of(shared, mapper);
+
+        first.put("name", "Bob");
+        first.put("extra", 1);
+
+        assertThat(first).containsEntry("name", "Bob").containsEntry("extra", 1).hasSize(2);
+        assertThat(second).containsExactlyEntriesOf(Map.of("name", "Alice"));
+    }
+
+    @Test
+    void testMatchesFullConversion() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("node", mapper.valueToTree(Map.of("list", List.of(1, 2))));
+        source.put("missing", null);
+
+        Map<String, Object> variables = NormalizedVariables.of(source, mapper);
+
+        assertThat(variables).isEqualTo(mapper.convertValue(source, Map.class));
+        assertThat(variables.containsKey("missing")).isTrue();
+        assertThat(variables.get("missing")).isNull();
+    }
+
+    public static class Payload {
+        private final String value;
+        private final AtomicInteger conversions;
+
+        Payload(String value, AtomicInteger conversions) {
+            this.value = value;
+            this.conversions = conversions;
+        }
+
+        public String getValue() {
+            conversions.incrementAndGet();
+            return value;
+        }
+    }
+}
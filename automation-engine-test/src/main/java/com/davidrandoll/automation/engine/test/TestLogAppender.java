@@ -3,11 +3,11 @@ package com.davidrandoll.automation.engine.test;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class TestLogAppender extends AppenderBase<ILoggingEvent> {
-    private final List<String> loggedMessages = new ArrayList<>();
+    private final List<String> loggedMessages = new CopyOnWriteArrayList<>();
 
     @Override
     protected void append(ILoggingEvent event) {